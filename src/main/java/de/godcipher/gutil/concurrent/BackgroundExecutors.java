@@ -0,0 +1,64 @@
+package de.godcipher.gutil.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BackgroundExecutors creates the executors gutil uses for background work such as prefetching.
+ *
+ * <p>This is the Java 8 implementation, backed by cached pools of daemon platform threads. The
+ * multi-release jar ships a Java 21 variant under {@code META-INF/versions/21} that runs each task
+ * on a virtual thread instead.
+ */
+public final class BackgroundExecutors {
+
+  private BackgroundExecutors() {}
+
+  /**
+   * Creates a new executor for background tasks. Threads of the executor never keep the JVM alive.
+   *
+   * @param name The name prefix for the threads of the executor.
+   * @return A new executor; the caller is responsible for shutting it down.
+   * @throws IllegalArgumentException if the name is null.
+   */
+  public static ExecutorService newExecutor(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("The name must not be null");
+    }
+    return Executors.newCachedThreadPool(new DaemonThreadFactory(name));
+  }
+
+  /**
+   * Retrieves the executor shared by all gutil components that are not given one explicitly. The
+   * shared executor is created on first use and must not be shut down.
+   *
+   * @return The shared background executor.
+   */
+  public static ExecutorService shared() {
+    return SharedHolder.EXECUTOR;
+  }
+
+  /** Lazily initializes the shared executor on first access. */
+  private static final class SharedHolder {
+    private static final ExecutorService EXECUTOR = newExecutor("gutil-background");
+  }
+
+  /** A ThreadFactory that creates named daemon threads. */
+  private static final class DaemonThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private DaemonThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -5,16 +5,21 @@ import com.google.gson.JsonSyntaxException;
 import de.godcipher.gutil.config.annotation.ConfigHeader;
 import de.godcipher.gutil.config.annotation.ConfigValue;
 import de.godcipher.gutil.config.annotation.Configuration;
+import de.godcipher.gutil.config.storage.ConfigStorage;
+import de.godcipher.gutil.config.storage.FileConfigStorage;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.*;
 
-/** BaseConfiguration is a class that manages configuration options and saves them to a file. */
+/**
+ * BaseConfiguration is a class that manages configuration options and saves them to a file. The
+ * file is read from and written to a {@link ConfigStorage}, which defaults to the working
+ * directory.
+ */
 public abstract class BaseConfiguration {
 
   private static final Gson GSON = new Gson();
@@ -22,22 +27,26 @@ public abstract class BaseConfiguration {
   private final Map<String, ConfigurationOption<?>> configOptions = new LinkedHashMap<>();
   private final Properties properties = new Properties();
 
-  private File file;
+  private final String fileName;
+  private ConfigStorage storage;
+  private Map<FieldAccessor, ConfigValue> configFields;
 
   /** Constructor for BaseConfiguration, uses the file name from the @Configuration annotation. */
   public BaseConfiguration() {
     Configuration configAnnotation = retrieveConfigurationAnnotation();
-    this.file = new File(configAnnotation.fileName());
-    createDirectoryIfNotExists(file.getParentFile());
+    this.fileName = configAnnotation.fileName();
+    this.storage = new FileConfigStorage(new File("").toPath());
   }
 
   /**
    * Loads the configuration file and updates internal options. Creates the configuration file if it
-   * does not exist.
+   * does not exist and the storage is writable.
    */
   public void initialize() {
     reloadConfig();
-    saveConfiguration();
+    if (!storage.isReadOnly()) {
+      saveConfiguration();
+    }
   }
 
   /**
@@ -50,11 +59,31 @@ public abstract class BaseConfiguration {
       throw new IllegalArgumentException("The directory must not be null");
     }
 
-    Configuration configAnnotation = retrieveConfigurationAnnotation();
-    this.file = new File(directory, configAnnotation.fileName());
+    setStorage(new FileConfigStorage(directory.toPath()));
     createDirectoryIfNotExists(directory);
   }
 
+  /**
+   * Set the storage the configuration file is read from and written to.
+   *
+   * @param storage The storage backend.
+   */
+  public void setStorage(ConfigStorage storage) {
+    if (storage == null) {
+      throw new IllegalArgumentException("The storage must not be null");
+    }
+    this.storage = storage;
+  }
+
+  /**
+   * Retrieves the storage the configuration file is read from and written to.
+   *
+   * @return The storage backend.
+   */
+  public ConfigStorage getStorage() {
+    return storage;
+  }
+
   /**
    * Retrieves the @Configuration annotation from the class.
    *
@@ -93,7 +122,11 @@ public abstract class BaseConfiguration {
 
   /** Saves the current configuration options to the file with comments. */
   public void saveConfiguration() {
-    try (PrintWriter writer = new PrintWriter(new FileOutputStream(file))) {
+    if (storage.isReadOnly()) {
+      throw new IllegalStateException(
+          "Could not save configuration file to read-only storage: " + fileName);
+    }
+    try (PrintWriter writer = new PrintWriter(storage.write(fileName))) {
       writeConfigHeader(writer);
       syncFieldsWithConfigOptions();
       for (Map.Entry<String, ConfigurationOption<?>> entry : configOptions.entrySet()) {
@@ -104,7 +137,7 @@ public abstract class BaseConfiguration {
         writer.println();
       }
     } catch (IOException | IllegalAccessException e) {
-      throw new IllegalStateException("Could not save configuration file: " + file.getName(), e);
+      throw new IllegalStateException("Could not save configuration file: " + fileName, e);
     }
   }
 
@@ -112,24 +145,19 @@ public abstract class BaseConfiguration {
    * Synchronizes the current field values with the configuration options.
    *
    * <p>This method iterates over the fields of the current class and its superclasses. For each
-   * field annotated with {@link ConfigValue}, the current field value is retrieved using reflection
-   * and the corresponding entry in the {@code configOptions} map is updated with this value.
+   * field annotated with {@link ConfigValue}, the current field value is retrieved through its
+   * {@link FieldAccessor} and the corresponding entry in the {@code configOptions} map is updated
+   * with this value.
    *
    * @throws IllegalAccessException if the field values cannot be accessed via reflection.
    */
   private void syncFieldsWithConfigOptions() throws IllegalAccessException {
-    List<Class<?>> classHierarchy = getClassHierarchy();
-    for (Class<?> clazz : classHierarchy) {
-      for (Field field : clazz.getDeclaredFields()) {
-        ConfigValue configValueAnnotation = field.getAnnotation(ConfigValue.class);
-        if (configValueAnnotation != null) {
-          field.setAccessible(true);
-          Object fieldValue = field.get(this);
-          ConfigurationOption<?> option =
-              new ConfigurationOption<>(fieldValue, configValueAnnotation.description());
-          configOptions.put(configValueAnnotation.name(), option);
-        }
-      }
+    for (Map.Entry<FieldAccessor, ConfigValue> entry : getConfigFields().entrySet()) {
+      ConfigValue configValueAnnotation = entry.getValue();
+      Object fieldValue = entry.getKey().get(this);
+      ConfigurationOption<?> option =
+          new ConfigurationOption<>(fieldValue, configValueAnnotation.description());
+      configOptions.put(configValueAnnotation.name(), option);
     }
   }
 
@@ -138,12 +166,33 @@ public abstract class BaseConfiguration {
    * class for fields annotated with @ConfigValue and updates their values.
    */
   private void loadConfigValues() {
-    List<Class<?>> classHierarchy = getClassHierarchy();
-    for (Class<?> clazz : classHierarchy) {
-      processClassFields(clazz);
+    for (Map.Entry<FieldAccessor, ConfigValue> entry : getConfigFields().entrySet()) {
+      processField(entry.getKey(), entry.getValue());
     }
   }
 
+  /**
+   * Retrieves the fields annotated with @ConfigValue in the class hierarchy, super classes first.
+   * The fields are scanned once and cached for subsequent loads and saves.
+   *
+   * @return The accessors of the annotated fields mapped to their annotations.
+   */
+  private Map<FieldAccessor, ConfigValue> getConfigFields() {
+    if (configFields == null) {
+      Map<FieldAccessor, ConfigValue> fields = new LinkedHashMap<>();
+      for (Class<?> clazz : getClassHierarchy()) {
+        for (Field field : clazz.getDeclaredFields()) {
+          ConfigValue configValueAnnotation = field.getAnnotation(ConfigValue.class);
+          if (configValueAnnotation != null) {
+            fields.put(FieldAccessor.of(field), configValueAnnotation);
+          }
+        }
+      }
+      configFields = fields;
+    }
+    return configFields;
+  }
+
   /**
    * Retrieves the class hierarchy for the current class.
    *
@@ -160,25 +209,14 @@ public abstract class BaseConfiguration {
     return classHierarchy;
   }
 
-  /** Processes all fields in a class that are annotated with @ConfigValue. */
-  private void processClassFields(Class<?> clazz) {
-    for (Field field : clazz.getDeclaredFields()) {
-      ConfigValue configValueAnnotation = field.getAnnotation(ConfigValue.class);
-      if (configValueAnnotation != null) {
-        processField(field, configValueAnnotation);
-      }
-    }
-  }
-
   /**
    * Process an individual field that is annotated with @ConfigValue.
    *
-   * @param field The field to process.
+   * @param field The accessor of the field to process.
    * @param configValueAnnotation The annotation instance for this field.
    */
-  private void processField(Field field, ConfigValue configValueAnnotation) {
+  private void processField(FieldAccessor field, ConfigValue configValueAnnotation) {
     String key = configValueAnnotation.name();
-    field.setAccessible(true);
     try {
       if (properties.containsKey(key)) {
         processExistingProperty(field, key, configValueAnnotation);
@@ -194,7 +232,8 @@ public abstract class BaseConfiguration {
    * Processes a field that has a corresponding key in the properties file. Assigns the property
    * value to the field and creates a ConfigurationOption.
    */
-  private void processExistingProperty(Field field, String key, ConfigValue configValueAnnotation)
+  private void processExistingProperty(
+      FieldAccessor field, String key, ConfigValue configValueAnnotation)
       throws IllegalAccessException {
     String newValue = properties.getProperty(key);
     assignNewValue(field, newValue);
@@ -207,7 +246,8 @@ public abstract class BaseConfiguration {
    * Processes a field that does not have a corresponding key in the properties file. Uses the
    * current field value or a default value to create a ConfigurationOption.
    */
-  private void processDefaultValue(Field field, String key, ConfigValue configValueAnnotation)
+  private void processDefaultValue(
+      FieldAccessor field, String key, ConfigValue configValueAnnotation)
       throws IllegalAccessException {
     Object fieldValue = field.get(this);
     ConfigurationOption<?> option;
@@ -221,13 +261,13 @@ public abstract class BaseConfiguration {
 
   /** Loads the configuration from the file if it exists. */
   private void loadFileIfExists() {
-    if (file.exists()) {
-      try (FileInputStream fis = new FileInputStream(file)) {
-        properties.load(fis);
+    if (storage.exists(fileName)) {
+      try (InputStream in = storage.read(fileName)) {
+        properties.load(in);
       } catch (IOException e) {
-        throw new IllegalStateException("Could not load configuration file: " + file.getName(), e);
+        throw new IllegalStateException("Could not load configuration file: " + fileName, e);
       }
-    } else {
+    } else if (!storage.isReadOnly()) {
       saveConfiguration();
     }
   }
@@ -300,10 +340,11 @@ public abstract class BaseConfiguration {
   /**
    * Assigns a new value to a configuration option based on the properties file.
    *
-   * @param field The field representing the configuration option.
+   * @param field The accessor of the field representing the configuration option.
    * @param newValue The value from the properties file.
    */
-  private <T> void assignNewValue(Field field, String newValue) throws IllegalAccessException {
+  private <T> void assignNewValue(FieldAccessor field, String newValue)
+      throws IllegalAccessException {
     Class<?> type = field.getType();
     try {
       Object value = GSON.fromJson(newValue, type);
@@ -0,0 +1,69 @@
+package de.godcipher.gutil.config;
+
+import java.lang.reflect.Field;
+
+/**
+ * FieldAccessor reads and writes the value of a configuration field.
+ *
+ * <p>This is the Java 8 implementation based on core reflection. The multi-release jar ships a
+ * Java 21 variant under {@code META-INF/versions/21} that uses VarHandles instead.
+ */
+final class FieldAccessor {
+
+  private final Field field;
+
+  private FieldAccessor(Field field) {
+    this.field = field;
+  }
+
+  /**
+   * Creates an accessor for the given field, making it accessible if necessary.
+   *
+   * @param field The field to access.
+   * @return A new FieldAccessor for the field.
+   */
+  static FieldAccessor of(Field field) {
+    field.setAccessible(true);
+    return new FieldAccessor(field);
+  }
+
+  /**
+   * Retrieves the name of the field.
+   *
+   * @return The name of the field.
+   */
+  String getName() {
+    return field.getName();
+  }
+
+  /**
+   * Retrieves the declared type of the field.
+   *
+   * @return The type of the field.
+   */
+  Class<?> getType() {
+    return field.getType();
+  }
+
+  /**
+   * Reads the value of the field.
+   *
+   * @param target The object to read the field from.
+   * @return The current value, boxed if the field is primitive.
+   * @throws IllegalAccessException if the field cannot be accessed.
+   */
+  Object get(Object target) throws IllegalAccessException {
+    return field.get(target);
+  }
+
+  /**
+   * Writes the value of the field.
+   *
+   * @param target The object to write the field on.
+   * @param value The new value, unboxed if the field is primitive.
+   * @throws IllegalAccessException if the field cannot be accessed.
+   */
+  void set(Object target, Object value) throws IllegalAccessException {
+    field.set(target, value);
+  }
+}
@@ -0,0 +1,84 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * A read-only ConfigStorage that loads entries as resources from a class loader, e.g. defaults
+ * bundled inside the jar.
+ */
+public class ClasspathConfigStorage implements ConfigStorage {
+
+  private final ClassLoader classLoader;
+  private final String prefix;
+
+  /**
+   * Constructs a ClasspathConfigStorage that resolves entries relative to the given resource
+   * prefix.
+   *
+   * @param classLoader The class loader to load resources from.
+   * @param prefix The resource path prefix, e.g. "defaults/"; may be empty.
+   * @throws IllegalArgumentException if the class loader or prefix is null.
+   */
+  public ClasspathConfigStorage(ClassLoader classLoader, String prefix) {
+    if (classLoader == null || prefix == null) {
+      throw new IllegalArgumentException("Class loader and prefix must not be null");
+    }
+    this.classLoader = classLoader;
+    this.prefix = prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+  }
+
+  /**
+   * Constructs a ClasspathConfigStorage that resolves entries from the root of the class loader.
+   *
+   * @param classLoader The class loader to load resources from.
+   */
+  public ClasspathConfigStorage(ClassLoader classLoader) {
+    this(classLoader, "");
+  }
+
+  @Override
+  public boolean exists(String name) {
+    return classLoader.getResource(prefix + name) != null;
+  }
+
+  @Override
+  public InputStream read(String name) throws IOException {
+    InputStream in = classLoader.getResourceAsStream(prefix + name);
+    if (in == null) {
+      throw new FileNotFoundException("No such resource: " + prefix + name);
+    }
+    return in;
+  }
+
+  @Override
+  public OutputStream write(String name) throws IOException {
+    throw new IOException("Classpath storage is read-only: " + prefix + name);
+  }
+
+  @Override
+  public long lastModified(String name) {
+    URL url = classLoader.getResource(prefix + name);
+    if (url == null) {
+      return 0L;
+    }
+    try {
+      URLConnection connection = url.openConnection();
+      connection.setUseCaches(false);
+      long lastModified = connection.getLastModified();
+      connection.getInputStream().close();
+      return lastModified;
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+}
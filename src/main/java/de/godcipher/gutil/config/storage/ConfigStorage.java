@@ -0,0 +1,58 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * ConfigStorage is the backend a configuration is read from and written to. Entries are addressed
+ * by the file name given in the @Configuration annotation.
+ */
+public interface ConfigStorage {
+
+  /**
+   * Checks whether an entry with the given name exists.
+   *
+   * @param name The name of the entry.
+   * @return true if the entry exists, false otherwise.
+   */
+  boolean exists(String name);
+
+  /**
+   * Opens the entry with the given name for reading. The caller is responsible for closing the
+   * returned stream.
+   *
+   * @param name The name of the entry.
+   * @return A stream over the content of the entry.
+   * @throws IOException if the entry does not exist or cannot be read.
+   */
+  InputStream read(String name) throws IOException;
+
+  /**
+   * Opens the entry with the given name for writing, replacing any existing content. The content
+   * is committed when the returned stream is closed.
+   *
+   * @param name The name of the entry.
+   * @return A stream to write the new content to.
+   * @throws IOException if the entry cannot be written.
+   */
+  OutputStream write(String name) throws IOException;
+
+  /**
+   * Retrieves the time the entry with the given name was last modified.
+   *
+   * @param name The name of the entry.
+   * @return The modification time in milliseconds since the epoch, or 0 if the entry does not
+   *     exist or the time is unknown.
+   */
+  long lastModified(String name);
+
+  /**
+   * Checks whether this storage is read-only. Read-only storages reject {@link #write(String)}.
+   *
+   * @return true if the storage cannot be written to, false otherwise.
+   */
+  default boolean isReadOnly() {
+    return false;
+  }
+}
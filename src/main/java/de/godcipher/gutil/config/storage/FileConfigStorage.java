@@ -0,0 +1,75 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** A ConfigStorage that keeps entries as files inside a directory of the local filesystem. */
+public class FileConfigStorage implements ConfigStorage {
+
+  private final Path directory;
+
+  /**
+   * Constructs a FileConfigStorage rooted at the given directory.
+   *
+   * @param directory The directory entries are resolved against.
+   * @throws IllegalArgumentException if the directory is null.
+   */
+  public FileConfigStorage(Path directory) {
+    if (directory == null) {
+      throw new IllegalArgumentException("The directory must not be null");
+    }
+    this.directory = directory;
+  }
+
+  /**
+   * Retrieves the directory entries are resolved against.
+   *
+   * @return The root directory of this storage.
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  @Override
+  public boolean exists(String name) {
+    return Files.isRegularFile(resolve(name));
+  }
+
+  @Override
+  public InputStream read(String name) throws IOException {
+    return Files.newInputStream(resolve(name));
+  }
+
+  @Override
+  public OutputStream write(String name) throws IOException {
+    Path path = resolve(name);
+    Path parent = path.getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    return Files.newOutputStream(path);
+  }
+
+  @Override
+  public long lastModified(String name) {
+    Path path = resolve(name);
+    try {
+      return Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : 0L;
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  /**
+   * Resolves an entry name against the root directory.
+   *
+   * @param name The name of the entry.
+   * @return The path of the entry.
+   */
+  private Path resolve(String name) {
+    return directory.resolve(name);
+  }
+}
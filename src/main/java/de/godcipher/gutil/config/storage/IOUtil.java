@@ -0,0 +1,33 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream helpers shared by the storage implementations.
+ *
+ * <p>This is the Java 8 implementation. The multi-release jar ships a Java 21 variant under {@code
+ * META-INF/versions/21} that delegates to {@link InputStream#readAllBytes()}.
+ */
+final class IOUtil {
+
+  private IOUtil() {}
+
+  /**
+   * Reads the remaining content of a stream into a byte array.
+   *
+   * @param in The stream to read.
+   * @return The content of the stream.
+   * @throws IOException if the stream cannot be read.
+   */
+  static byte[] readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,74 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A ConfigStorage that keeps entries in memory. Useful for tests and short-lived environments where
+ * nothing should touch the disk.
+ */
+public class InMemoryConfigStorage implements ConfigStorage {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean exists(String name) {
+    return entries.containsKey(name);
+  }
+
+  @Override
+  public InputStream read(String name) throws FileNotFoundException {
+    Entry entry = entries.get(name);
+    if (entry == null) {
+      throw new FileNotFoundException("No such entry: " + name);
+    }
+    return new ByteArrayInputStream(entry.data);
+  }
+
+  @Override
+  public OutputStream write(String name) {
+    return new ByteArrayOutputStream() {
+      private boolean closed;
+
+      @Override
+      public void close() {
+        if (!closed) {
+          closed = true;
+          entries.put(name, new Entry(toByteArray(), System.currentTimeMillis()));
+        }
+      }
+    };
+  }
+
+  @Override
+  public long lastModified(String name) {
+    Entry entry = entries.get(name);
+    return entry != null ? entry.lastModified : 0L;
+  }
+
+  /**
+   * Removes the entry with the given name.
+   *
+   * @param name The name of the entry.
+   * @return true if an entry was removed, false otherwise.
+   */
+  public boolean delete(String name) {
+    return entries.remove(name) != null;
+  }
+
+  /** An immutable snapshot of an entry's content. */
+  private static final class Entry {
+    private final byte[] data;
+    private final long lastModified;
+
+    private Entry(byte[] data, long lastModified) {
+      this.data = data;
+      this.lastModified = lastModified;
+    }
+  }
+}
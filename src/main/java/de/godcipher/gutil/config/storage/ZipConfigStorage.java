@@ -0,0 +1,95 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A read-only ConfigStorage that loads entries from a zip archive such as a jar file. The archive
+ * is opened per access, so it is never held open between reads.
+ */
+public class ZipConfigStorage implements ConfigStorage {
+
+  private final Path archive;
+  private final String prefix;
+
+  /**
+   * Constructs a ZipConfigStorage that resolves entries relative to the given prefix inside the
+   * archive.
+   *
+   * @param archive The zip or jar file to read from.
+   * @param prefix The entry path prefix, e.g. "defaults/"; may be empty.
+   * @throws IllegalArgumentException if the archive or prefix is null.
+   */
+  public ZipConfigStorage(Path archive, String prefix) {
+    if (archive == null || prefix == null) {
+      throw new IllegalArgumentException("Archive and prefix must not be null");
+    }
+    this.archive = archive;
+    this.prefix = prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+  }
+
+  /**
+   * Constructs a ZipConfigStorage that resolves entries from the root of the archive.
+   *
+   * @param archive The zip or jar file to read from.
+   */
+  public ZipConfigStorage(Path archive) {
+    this(archive, "");
+  }
+
+  @Override
+  public boolean exists(String name) {
+    if (!Files.isRegularFile(archive)) {
+      return false;
+    }
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      ZipEntry entry = zipFile.getEntry(prefix + name);
+      return entry != null && !entry.isDirectory();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public InputStream read(String name) throws IOException {
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      ZipEntry entry = zipFile.getEntry(prefix + name);
+      if (entry == null || entry.isDirectory()) {
+        throw new FileNotFoundException("No such entry in " + archive + ": " + prefix + name);
+      }
+      try (InputStream in = zipFile.getInputStream(entry)) {
+        return new ByteArrayInputStream(IOUtil.readFully(in));
+      }
+    }
+  }
+
+  @Override
+  public OutputStream write(String name) throws IOException {
+    throw new IOException("Zip storage is read-only: " + archive);
+  }
+
+  @Override
+  public long lastModified(String name) {
+    if (!Files.isRegularFile(archive)) {
+      return 0L;
+    }
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      ZipEntry entry = zipFile.getEntry(prefix + name);
+      return entry != null ? Math.max(entry.getTime(), 0L) : 0L;
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+}
@@ -0,0 +1,48 @@
+package de.godcipher.gutil.pagination;
+
+import java.nio.Buffer;
+
+/**
+ * Position and limit updates for NIO buffers that link against Java 8.
+ *
+ * <p>Java 9 added covariant overrides of {@code position}, {@code limit}, {@code flip} and {@code
+ * clear} to every buffer subclass. Code compiled on a newer JDK with a Java 8 target links against
+ * those overrides and fails with {@link NoSuchMethodError} on Java 8. Taking the buffer as a plain
+ * {@link Buffer} here makes every call link against the methods Java 8 has. Likewise, {@code
+ * duplicate} and {@code slice} must be called on a {@code MappedByteBuffer} typed as a {@code
+ * ByteBuffer}, as Java 13 added overrides of them too.
+ */
+final class Buffers {
+
+  private Buffers() {}
+
+  /**
+   * Restricts a buffer to the given range of its content.
+   *
+   * @param buffer the buffer to restrict
+   * @param from the new position
+   * @param to the new limit; must not be less than from
+   */
+  static void range(Buffer buffer, int from, int to) {
+    buffer.limit(to);
+    buffer.position(from);
+  }
+
+  /**
+   * Flips a buffer from writing to reading.
+   *
+   * @param buffer the buffer to flip
+   */
+  static void flip(Buffer buffer) {
+    buffer.flip();
+  }
+
+  /**
+   * Clears a buffer for writing.
+   *
+   * @param buffer the buffer to clear
+   */
+  static void clear(Buffer buffer) {
+    buffer.clear();
+  }
+}
@@ -0,0 +1,331 @@
+package de.godcipher.gutil.pagination;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A PageSource that caches the ranges loaded from another PageSource in a bounded LRU cache.
+ *
+ * <p>The cache is bounded by the number of cached ranges or by their total weight, and entries can
+ * expire a fixed time after they were loaded. Concurrent loads of the same range share a single
+ * load from the delegate. Failed loads are not cached.
+ *
+ * <p>Instances are created through {@link #builder(PageSource)}. This class is thread-safe.
+ *
+ * @param <T> the type of the items
+ */
+public class CachingPageSource<T> implements PageSource<T> {
+
+  private final PageSource<T> delegate;
+  private final long maximumWeight;
+  private final ToLongFunction<? super List<T>> weigher;
+  private final long expireAfterWriteNanos;
+  private final BiConsumer<Long, List<T>> removalListener;
+  private final LongSupplier clock;
+
+  /** The cached ranges in access order, least recently used first; guarded by {@code this}. */
+  private final LinkedHashMap<Key, Entry<T>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** The loads currently in flight; guarded by {@code this}. */
+  private final Map<Key, CompletableFuture<List<T>>> inFlight = new LinkedHashMap<>();
+
+  /** The total weight of the cached ranges; guarded by {@code this}. */
+  private long totalWeight;
+
+  private CachingPageSource(Builder<T> builder) {
+    this.delegate = builder.delegate;
+    this.maximumWeight = builder.maximumWeight;
+    this.weigher = builder.weigher;
+    this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    this.removalListener = builder.removalListener;
+    this.clock = builder.clock;
+  }
+
+  /**
+   * Creates a builder for a cache in front of the given source.
+   *
+   * @param delegate the source to load uncached ranges from
+   * @return a new builder
+   * @throws IllegalArgumentException if delegate is null
+   */
+  public static <T> Builder<T> builder(PageSource<T> delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("Delegate must not be null.");
+    }
+    return new Builder<>(delegate);
+  }
+
+  @Override
+  public CompletableFuture<List<T>> load(long offset, int limit) {
+    if (offset < 0 || limit <= 0) {
+      throw new IllegalArgumentException("Offset must be non-negative and limit positive.");
+    }
+    Key key = new Key(offset, limit);
+    CompletableFuture<List<T>> future;
+    synchronized (this) {
+      Entry<T> entry = cache.get(key);
+      if (entry != null) {
+        if (!isExpired(entry)) {
+          return CompletableFuture.completedFuture(entry.page);
+        }
+        remove(key);
+      }
+      CompletableFuture<List<T>> pending = inFlight.get(key);
+      if (pending != null) {
+        // Callers get their own stage, so cancelling one does not affect the others
+        return pending.thenApply(Function.identity());
+      }
+      future = new CompletableFuture<>();
+      inFlight.put(key, future);
+    }
+
+    future.whenComplete((page, error) -> complete(key, future, page, error));
+    try {
+      delegate
+          .load(offset, limit)
+          .whenComplete(
+              (page, error) -> {
+                if (error != null) {
+                  future.completeExceptionally(error);
+                } else {
+                  future.complete(page);
+                }
+              });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future.thenApply(Function.identity());
+  }
+
+  @Override
+  public OptionalLong size() {
+    return delegate.size();
+  }
+
+  /** Removes all cached ranges. Loads in flight are not affected. */
+  public synchronized void invalidateAll() {
+    Iterator<Map.Entry<Key, Entry<T>>> iterator = cache.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Key, Entry<T>> entry = iterator.next();
+      iterator.remove();
+      totalWeight -= entry.getValue().weight;
+      notifyRemoval(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Returns the number of cached ranges, including expired ranges not yet removed.
+   *
+   * @return the number of cached ranges
+   */
+  public synchronized int getCachedRanges() {
+    return cache.size();
+  }
+
+  /**
+   * Stores a completed load in the cache and evicts ranges that exceed the weight bound.
+   *
+   * @param key the loaded range
+   * @param future the future of the load
+   * @param page the loaded items, or null if the load failed
+   * @param error the failure, or null if the load succeeded
+   */
+  private synchronized void complete(
+      Key key, CompletableFuture<List<T>> future, List<T> page, Throwable error) {
+    if (inFlight.get(key) != future) {
+      return;
+    }
+    inFlight.remove(key);
+    if (error != null || page == null) {
+      return;
+    }
+    remove(key);
+    Entry<T> entry = new Entry<>(page, weigher.applyAsLong(page), clock.getAsLong());
+    cache.put(key, entry);
+    totalWeight += entry.weight;
+    evict();
+  }
+
+  /** Evicts the least recently used ranges until the total weight is within the bound. */
+  private void evict() {
+    Iterator<Map.Entry<Key, Entry<T>>> iterator = cache.entrySet().iterator();
+    while (totalWeight > maximumWeight && iterator.hasNext()) {
+      Map.Entry<Key, Entry<T>> eldest = iterator.next();
+      iterator.remove();
+      totalWeight -= eldest.getValue().weight;
+      notifyRemoval(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  /**
+   * Removes the cached range with the given key, if present.
+   *
+   * @param key the range to remove
+   */
+  private void remove(Key key) {
+    Entry<T> entry = cache.remove(key);
+    if (entry != null) {
+      totalWeight -= entry.weight;
+      notifyRemoval(key, entry);
+    }
+  }
+
+  private boolean isExpired(Entry<T> entry) {
+    return expireAfterWriteNanos > 0 && clock.getAsLong() - entry.loadedAt >= expireAfterWriteNanos;
+  }
+
+  private void notifyRemoval(Key key, Entry<T> entry) {
+    if (removalListener != null) {
+      removalListener.accept(key.offset, entry.page);
+    }
+  }
+
+  /** Identifies a cached range by its offset and limit. */
+  private static final class Key {
+    private final long offset;
+    private final int limit;
+
+    private Key(long offset, int limit) {
+      this.offset = offset;
+      this.limit = limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return offset == other.offset && limit == other.limit;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Long.hashCode(offset) + limit;
+    }
+  }
+
+  /** A cached range together with its weight and load time. */
+  private static final class Entry<T> {
+    private final List<T> page;
+    private final long weight;
+    private final long loadedAt;
+
+    private Entry(List<T> page, long weight, long loadedAt) {
+      this.page = page;
+      this.weight = weight;
+      this.loadedAt = loadedAt;
+    }
+  }
+
+  /**
+   * Builder for {@link CachingPageSource}. Without further configuration the cache holds up to 64
+   * ranges that never expire.
+   *
+   * @param <T> the type of the items
+   */
+  public static final class Builder<T> {
+    private final PageSource<T> delegate;
+    private long maximumWeight = 64;
+    private ToLongFunction<? super List<T>> weigher = page -> 1;
+    private long expireAfterWriteNanos;
+    private BiConsumer<Long, List<T>> removalListener;
+    private LongSupplier clock = System::nanoTime;
+
+    private Builder(PageSource<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    /**
+     * Bounds the cache by the number of cached ranges.
+     *
+     * @param maximumSize the maximum number of ranges; must be greater than zero
+     * @return this builder
+     * @throws IllegalArgumentException if maximumSize is less than or equal to zero
+     */
+    public Builder<T> maximumSize(long maximumSize) {
+      return maximumWeight(maximumSize, page -> 1);
+    }
+
+    /**
+     * Bounds the cache by the total weight of the cached ranges, e.g. their item count or
+     * estimated byte size.
+     *
+     * @param maximumWeight the maximum total weight; must be greater than zero
+     * @param weigher computes the weight of a loaded range; must not be negative
+     * @return this builder
+     * @throws IllegalArgumentException if maximumWeight is less than or equal to zero or weigher
+     *     is null
+     */
+    public Builder<T> maximumWeight(long maximumWeight, ToLongFunction<? super List<T>> weigher) {
+      if (maximumWeight <= 0) {
+        throw new IllegalArgumentException("Maximum weight must be greater than zero.");
+      }
+      if (weigher == null) {
+        throw new IllegalArgumentException("Weigher must not be null.");
+      }
+      this.maximumWeight = maximumWeight;
+      this.weigher = weigher;
+      return this;
+    }
+
+    /**
+     * Expires cached ranges a fixed time after they were loaded.
+     *
+     * @param duration the time to live of a cached range; must be positive
+     * @return this builder
+     * @throws IllegalArgumentException if duration is null, zero or negative
+     */
+    public Builder<T> expireAfterWrite(Duration duration) {
+      if (duration == null || duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException("Duration must be positive.");
+      }
+      this.expireAfterWriteNanos = duration.toNanos();
+      return this;
+    }
+
+    /**
+     * Sets a listener that is notified with the offset and items of every range removed from the
+     * cache, whether evicted, expired or invalidated.
+     *
+     * @param removalListener the listener, or null to remove it
+     * @return this builder
+     */
+    public Builder<T> removalListener(BiConsumer<Long, List<T>> removalListener) {
+      this.removalListener = removalListener;
+      return this;
+    }
+
+    /**
+     * Sets the clock used for expiration, in nanoseconds. Intended for tests.
+     *
+     * @param clock the clock
+     * @return this builder
+     */
+    Builder<T> clock(LongSupplier clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Creates the CachingPageSource.
+     *
+     * @return a new CachingPageSource
+     */
+    public CachingPageSource<T> build() {
+      return new CachingPageSource<>(this);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A paginator over the concatenation of several lists, without copying them into one.
+ *
+ * <p>A prefix-size index maps a global position to its source list by binary search, so locating a
+ * page costs O(log s) for s sources. A page that crosses source boundaries is a view stitched
+ * together from slices of the sources it touches.
+ *
+ * <p>The index reflects the source sizes at construction or the last {@link #refresh()}. After
+ * adding or removing items in a source, call {@link #refresh()} before retrieving further pages.
+ * Pages are views and are only valid until a source is structurally modified.
+ *
+ * @param <T> the type of the items
+ */
+public class CompositePaginator<T> {
+
+  /** The lists to paginate through, in order. */
+  private final List<List<? extends T>> sources;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The global position of the first item of each source, followed by the total size. */
+  private final long[] offsets;
+
+  /**
+   * Constructs a CompositePaginator over the given lists.
+   *
+   * @param sources the lists to paginate through, in order
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public CompositePaginator(List<? extends List<? extends T>> sources, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    this.sources = new ArrayList<>(sources);
+    this.pageSize = pageSize;
+    this.offsets = new long[this.sources.size() + 1];
+    refresh();
+  }
+
+  /**
+   * Constructs a CompositePaginator over the given lists.
+   *
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param sources the lists to paginate through, in order
+   * @return a new CompositePaginator
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  @SafeVarargs
+  public static <T> CompositePaginator<T> of(int pageSize, List<? extends T>... sources) {
+    return new CompositePaginator<>(Arrays.asList(sources), pageSize);
+  }
+
+  /**
+   * Retrieves the items for the specified page as a view over the sources.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable view of the items for the specified page, or an empty list if the page
+   *     is out of range
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public List<T> getPage(int pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    long fromIndex = (long) pageNumber * pageSize;
+    long size = size();
+    if (fromIndex >= size) {
+      return Collections.emptyList();
+    }
+    long toIndex = Math.min(fromIndex + pageSize, size);
+
+    List<List<? extends T>> slices = new ArrayList<>();
+    for (int source = sourceOf(fromIndex); fromIndex < toIndex; source++) {
+      long end = Math.min(toIndex, offsets[source + 1]);
+      if (end > fromIndex) {
+        int from = (int) (fromIndex - offsets[source]);
+        int to = (int) (end - offsets[source]);
+        slices.add(sources.get(source).subList(from, to));
+        fromIndex = end;
+      }
+    }
+    if (slices.size() == 1) {
+      return Collections.unmodifiableList(slices.get(0));
+    }
+    return new StitchedList<>(slices);
+  }
+
+  /**
+   * Returns the total number of pages as of the last refresh.
+   *
+   * @return the total number of pages
+   */
+  public int getTotalPages() {
+    return (int) Math.ceil((double) size() / pageSize);
+  }
+
+  /**
+   * Returns the total number of items as of the last refresh.
+   *
+   * @return the total number of items
+   */
+  public long size() {
+    return offsets[sources.size()];
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** Rebuilds the prefix-size index after the sizes of the sources changed, in O(s). */
+  public void refresh() {
+    for (int i = 0; i < sources.size(); i++) {
+      offsets[i + 1] = offsets[i] + sources.get(i).size();
+    }
+  }
+
+  /** Returns the index of the source holding the item at the given global position. */
+  private int sourceOf(long position) {
+    // Find the last source starting at or before the position; empty sources are skipped later
+    int low = 0;
+    int high = sources.size() - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (offsets[mid] <= position) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /** An unmodifiable list over consecutive slices, locating items by binary search. */
+  private static final class StitchedList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<List<? extends T>> slices;
+    private final int[] starts;
+
+    private StitchedList(List<List<? extends T>> slices) {
+      this.slices = slices;
+      this.starts = new int[slices.size() + 1];
+      for (int i = 0; i < slices.size(); i++) {
+        starts[i + 1] = starts[i] + slices.get(i).size();
+      }
+    }
+
+    @Override
+    public T get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      int slice = Arrays.binarySearch(starts, 0, slices.size(), index);
+      if (slice < 0) {
+        slice = -slice - 2;
+      }
+      return slices.get(slice).get(index - starts[slice]);
+    }
+
+    @Override
+    public int size() {
+      return starts[slices.size()];
+    }
+  }
+}
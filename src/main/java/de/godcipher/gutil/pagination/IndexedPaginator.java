@@ -0,0 +1,284 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A paginator that maintains a reverse index from item keys to positions, so the page holding a
+ * given item (such as "jump to my rank") is found in O(1) instead of by an O(n) {@code indexOf}.
+ *
+ * <p>Every item must have a unique key. Appending and replacing items update the index directly.
+ * Inserting or removing items shifts the positions of all following items; those positions are
+ * re-indexed lazily on the next lookup, in O(n) for the shifted items only.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <T> the type of the items
+ * @param <K> the type of the item keys
+ */
+public class IndexedPaginator<T, K> {
+
+  /** Extracts the unique key of an item. */
+  private final Function<? super T, ? extends K> keyFunction;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** List of items to paginate through. */
+  private final ArrayList<T> items = new ArrayList<>();
+
+  /** The position of each item by key; valid for positions before {@link #indexedUpTo}. */
+  private final Map<K, Integer> positions = new HashMap<>();
+
+  /** The number of leading items whose positions in the index are up to date. */
+  private int indexedUpTo;
+
+  /**
+   * Constructs an empty IndexedPaginator.
+   *
+   * @param keyFunction the function extracting the unique key of an item
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if keyFunction is null or pageSize is less than or equal to
+   *     zero
+   */
+  public IndexedPaginator(Function<? super T, ? extends K> keyFunction, int pageSize) {
+    if (keyFunction == null) {
+      throw new IllegalArgumentException("Key function must not be null.");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    this.keyFunction = keyFunction;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Constructs an IndexedPaginator holding the given items.
+   *
+   * @param items the initial items
+   * @param keyFunction the function extracting the unique key of an item
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if keyFunction is null, pageSize is less than or equal to
+   *     zero, or two items share a key
+   */
+  public IndexedPaginator(
+      Collection<? extends T> items, Function<? super T, ? extends K> keyFunction, int pageSize) {
+    this(keyFunction, pageSize);
+    addAll(items);
+  }
+
+  /**
+   * Retrieves the items for the specified page.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable view of the items for the specified page, or an empty list if the page
+   *     is out of range; the view is only valid until the paginator is modified
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public List<T> getPage(int pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    long fromIndex = (long) pageNumber * pageSize;
+    if (fromIndex >= items.size()) {
+      return Collections.emptyList();
+    }
+    int toIndex = (int) Math.min(fromIndex + pageSize, items.size());
+    return Collections.unmodifiableList(items.subList((int) fromIndex, toIndex));
+  }
+
+  /**
+   * Returns the total number of pages.
+   *
+   * @return the total number of pages
+   */
+  public int getTotalPages() {
+    return (int) Math.ceil((double) items.size() / pageSize);
+  }
+
+  /**
+   * Returns the position of the item with the given key.
+   *
+   * @param key the key of the item
+   * @return the zero-based position of the item, or -1 if no item has the key
+   */
+  public int positionOf(K key) {
+    Integer position = positions.get(key);
+    if (position == null) {
+      return -1;
+    }
+    if (position >= indexedUpTo) {
+      reindex();
+      position = positions.get(key);
+    }
+    return position;
+  }
+
+  /**
+   * Returns the number of the page holding the item with the given key.
+   *
+   * @param key the key of the item
+   * @return the zero-based page number, or -1 if no item has the key
+   */
+  public int pageOf(K key) {
+    int position = positionOf(key);
+    return position < 0 ? -1 : position / pageSize;
+  }
+
+  /**
+   * Returns the item with the given key.
+   *
+   * @param key the key of the item
+   * @return the item, or null if no item has the key
+   */
+  public T getByKey(K key) {
+    int position = positionOf(key);
+    return position < 0 ? null : items.get(position);
+  }
+
+  /**
+   * Returns the item at the given position.
+   *
+   * @param index the position of the item
+   * @return the item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public T get(int index) {
+    return items.get(index);
+  }
+
+  /**
+   * Appends an item.
+   *
+   * @param item the item to add
+   * @throws IllegalArgumentException if another item has the same key
+   */
+  public void add(T item) {
+    K key = keyOf(item);
+    checkUnique(key);
+    int index = items.size();
+    items.add(item);
+    positions.put(key, index);
+    if (indexedUpTo == index) {
+      indexedUpTo++;
+    }
+  }
+
+  /**
+   * Inserts an item at the given position, shifting the following items.
+   *
+   * @param index the position to insert the item at
+   * @param item the item to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalArgumentException if another item has the same key
+   */
+  public void add(int index, T item) {
+    K key = keyOf(item);
+    checkUnique(key);
+    items.add(index, item);
+    positions.put(key, index);
+    indexedUpTo = Math.min(indexedUpTo, index);
+  }
+
+  /**
+   * Appends all items.
+   *
+   * @param items the items to add
+   * @throws IllegalArgumentException if two items share a key
+   */
+  public void addAll(Collection<? extends T> items) {
+    for (T item : items) {
+      add(item);
+    }
+  }
+
+  /**
+   * Replaces the item at the given position.
+   *
+   * @param index the position of the item
+   * @param item the new item
+   * @return the replaced item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalArgumentException if another item has the same key
+   */
+  public T set(int index, T item) {
+    K key = keyOf(item);
+    K previousKey = keyOf(items.get(index));
+    if (!previousKey.equals(key)) {
+      checkUnique(key);
+      positions.remove(previousKey);
+    }
+    positions.put(key, index);
+    return items.set(index, item);
+  }
+
+  /**
+   * Removes the item at the given position, shifting the following items.
+   *
+   * @param index the position of the item
+   * @return the removed item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public T remove(int index) {
+    T removed = items.remove(index);
+    positions.remove(keyOf(removed));
+    indexedUpTo = Math.min(indexedUpTo, index);
+    return removed;
+  }
+
+  /**
+   * Removes the item with the given key.
+   *
+   * @param key the key of the item
+   * @return the removed item, or null if no item has the key
+   */
+  public T removeByKey(K key) {
+    int position = positionOf(key);
+    return position < 0 ? null : remove(position);
+  }
+
+  /**
+   * Returns the number of items.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** Updates the positions of all items shifted since the last lookup. */
+  private void reindex() {
+    for (int i = indexedUpTo; i < items.size(); i++) {
+      positions.put(keyOf(items.get(i)), i);
+    }
+    indexedUpTo = items.size();
+  }
+
+  private K keyOf(T item) {
+    K key = keyFunction.apply(item);
+    if (key == null) {
+      throw new IllegalArgumentException("Key must not be null: " + item);
+    }
+    return key;
+  }
+
+  private void checkUnique(K key) {
+    if (positions.containsKey(key)) {
+      throw new IllegalArgumentException("Duplicate key: " + key);
+    }
+  }
+}
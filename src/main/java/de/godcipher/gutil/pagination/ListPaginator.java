@@ -2,10 +2,21 @@ package de.godcipher.gutil.pagination;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /** An immutable paginator for handling paginated views of a list of items. */
 public class ListPaginator<T> {
 
+  /** The pools used by {@link #forEachPageParallel(Consumer, int)}, by parallelism. */
+  private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
   /** List of items to paginate through. */
   private final List<T> items;
 
@@ -35,9 +46,94 @@ public class ListPaginator<T> {
    */
   public List<T> getPage(int pageNumber) {
     validateIntNonNegative(pageNumber);
-    int fromIndex = pageNumber * pageSize;
-    int toIndex = Math.min(fromIndex + pageSize, items.size());
-    return getItemsInRange(fromIndex, toIndex);
+    long fromIndex = (long) pageNumber * pageSize;
+    if (fromIndex >= items.size()) {
+      return Collections.emptyList();
+    }
+    int toIndex = (int) Math.min(fromIndex + pageSize, items.size());
+    return getItemsInRange((int) fromIndex, toIndex);
+  }
+
+  /**
+   * Returns a cursor positioned before the first page. Unlike {@link #getPage(int)}, the cursor
+   * keeps its position between pages, which makes sequential paging over non-{@link
+   * java.util.RandomAccess} lists linear in the total number of items.
+   *
+   * @return a new cursor over the items
+   */
+  public PageCursor<T> cursor() {
+    return new PageCursor<>(items, pageSize);
+  }
+
+  /**
+   * Returns a cursor positioned before the specified page.
+   *
+   * @param pageNumber the page the cursor is positioned before (zero-based index); must be
+   *     non-negative
+   * @return a new cursor over the items
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public PageCursor<T> cursor(long pageNumber) {
+    return new PageCursor<>(items, pageSize, pageNumber);
+  }
+
+  /**
+   * Returns a sequential stream of all pages. Call {@link Stream#parallel()} to process pages on
+   * the common fork-join pool; the pages split evenly on page boundaries.
+   *
+   * @return a stream of unmodifiable pages
+   */
+  public Stream<List<T>> pages() {
+    return StreamSupport.stream(new PageSpliterator<>(items, pageSize), false);
+  }
+
+  /**
+   * Processes all pages in parallel with the given parallelism and waits for completion. The pages
+   * are processed in no particular order.
+   *
+   * <p>The pages run on the common fork-join pool if its parallelism matches, and otherwise on a
+   * pool that is created on the first call with that parallelism and reused by later calls. Its
+   * worker threads do not keep the JVM alive and end when the pool is idle.
+   *
+   * @param consumer the action to apply to each page
+   * @param parallelism the maximum number of pages processed at the same time; must be greater
+   *     than zero
+   * @throws IllegalArgumentException if parallelism is less than or equal to zero
+   */
+  public void forEachPageParallel(Consumer<? super List<T>> consumer, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be greater than zero.");
+    }
+    if (parallelism == 1) {
+      new PageSpliterator<>(items, pageSize).forEachRemaining(consumer);
+      return;
+    }
+    forEachPageParallel(
+        consumer,
+        POOLS.computeIfAbsent(
+            parallelism,
+            p -> p == ForkJoinPool.getCommonPoolParallelism()
+                ? ForkJoinPool.commonPool()
+                : new ForkJoinPool(p)));
+  }
+
+  /**
+   * Processes all pages on the given fork-join pool and waits for completion. The pages are
+   * processed in no particular order, in batches of consecutive pages, about four per worker of the
+   * pool.
+   *
+   * @param consumer the action to apply to each page
+   * @param pool the pool to process the pages on, which is left running
+   * @throws IllegalArgumentException if pool is null
+   */
+  public void forEachPageParallel(Consumer<? super List<T>> consumer, ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool must not be null.");
+    }
+    PageSpliterator<T> spliterator = new PageSpliterator<>(items, pageSize);
+    // A few batches per worker balance the load without forking a task for every page
+    long batchPages = Math.max(1, spliterator.estimateSize() / (pool.getParallelism() * 4L));
+    pool.invoke(new PageTask<>(spliterator, consumer, batchPages));
   }
 
   /**
@@ -87,4 +183,43 @@ public class ListPaginator<T> {
   public int getTotalPages() {
     return (int) Math.ceil((double) items.size() / pageSize);
   }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Splits the pages recursively down to batches of the given size and processes each batch as a
+   * fork-join task.
+   */
+  private static final class PageTask<T> extends RecursiveAction {
+    private final Spliterator<List<T>> spliterator;
+    private final Consumer<? super List<T>> consumer;
+    private final long batchPages;
+
+    private PageTask(
+        Spliterator<List<T>> spliterator, Consumer<? super List<T>> consumer, long batchPages) {
+      this.spliterator = spliterator;
+      this.consumer = consumer;
+      this.batchPages = batchPages;
+    }
+
+    @Override
+    protected void compute() {
+      Spliterator<List<T>> prefix =
+          spliterator.estimateSize() > batchPages ? spliterator.trySplit() : null;
+      if (prefix == null) {
+        spliterator.forEachRemaining(consumer);
+        return;
+      }
+      invokeAll(
+          new PageTask<>(prefix, consumer, batchPages),
+          new PageTask<>(spliterator, consumer, batchPages));
+    }
+  }
 }
@@ -0,0 +1,107 @@
+package de.godcipher.gutil.pagination;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * A paginator over long values that avoids boxing. Pages are read-only {@link LongBuffer}
+ * slices sharing the storage of the source, so retrieving a page allocates a single buffer object
+ * regardless of the page size.
+ *
+ * <p>The source is either a {@code long[]} array or a {@link ByteBuffer}, which may be direct
+ * (off-heap) or memory-mapped. Changes to the source are visible through the pages.
+ */
+public class LongPaginator {
+
+  /** Read-only view of the values, positioned at zero and limited to the number of values. */
+  private final LongBuffer values;
+
+  /** The maximum number of values per page. */
+  private final int pageSize;
+
+  /**
+   * Constructs a LongPaginator over an array.
+   *
+   * @param values the array of values to paginate
+   * @param pageSize the number of values per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public LongPaginator(long[] values, int pageSize) {
+    this(LongBuffer.wrap(values), pageSize);
+  }
+
+  /**
+   * Constructs a LongPaginator over the remaining bytes of a byte buffer, interpreted in the
+   * buffer's byte order. Trailing bytes that do not form a complete value are ignored.
+   *
+   * @param buffer the buffer holding the values, e.g. a direct or memory-mapped buffer
+   * @param pageSize the number of values per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public LongPaginator(ByteBuffer buffer, int pageSize) {
+    this(buffer.slice().order(buffer.order()).asLongBuffer(), pageSize);
+  }
+
+  /**
+   * Constructs a LongPaginator over the remaining values of a buffer.
+   *
+   * @param buffer the buffer holding the values
+   * @param pageSize the number of values per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public LongPaginator(LongBuffer buffer, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    this.values = buffer.slice().asReadOnlyBuffer();
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Retrieves the values for the specified page as a read-only slice of the source.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return a read-only buffer of the values for the specified page, or an empty buffer if the
+   *     page is out of range
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public LongBuffer getPage(int pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    int size = size();
+    int fromIndex = (int) Math.min((long) pageNumber * pageSize, size);
+    int toIndex = (int) Math.min((long) fromIndex + pageSize, size);
+    LongBuffer page = values.duplicate();
+    Buffers.range(page, fromIndex, toIndex);
+    return page.slice();
+  }
+
+  /**
+   * Returns the total number of pages based on the number of values and page size.
+   *
+   * @return the total number of pages
+   */
+  public int getTotalPages() {
+    int size = size();
+    return size / pageSize + (size % pageSize == 0 ? 0 : 1);
+  }
+
+  /**
+   * Returns the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return values.limit();
+  }
+
+  /**
+   * Returns the maximum number of values per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+}
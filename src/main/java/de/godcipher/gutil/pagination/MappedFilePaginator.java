@@ -0,0 +1,586 @@
+package de.godcipher.gutil.pagination;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A paginator over the records of a file that may be far larger than the heap.
+ *
+ * <p>Records are either of a fixed length or newline-delimited. For delimited files, the start
+ * offset of every record is kept in an index file next to the data, so that reopening the file does
+ * not scan it again. The index is extended incrementally by {@link #refresh()} when the file grows,
+ * and rebuilt if the file it was built for was replaced.
+ *
+ * <p>The file is mapped into memory in windows of 64 MiB, of which the 16 most recently used are
+ * kept, so consecutive pages share a mapping instead of each mapping its own range. Records are
+ * returned as read-only views of a window, without copying; a page crossing a window boundary is
+ * mapped on its own. Locating a page is O(1): a computation for fixed-length records and a single
+ * positional index read for delimited records.
+ *
+ * <p>Delimited records do not include their line terminator ({@code \n} or {@code \r\n}). A
+ * trailing line without terminator is exposed as the last record until the line is completed.
+ *
+ * <p>This class is thread-safe. Records already returned stay valid after {@link #close()}.
+ */
+public class MappedFilePaginator implements Closeable {
+
+  private static final int WINDOW_BYTES = 64 * 1024 * 1024;
+  private static final int MAX_WINDOWS = 16;
+
+  /** The channel of the data file. */
+  private final FileChannel channel;
+
+  /** Locates the records in the data file. */
+  private final Layout layout;
+
+  /** The maximum number of records per page. */
+  private final int pageSize;
+
+  /** Recently used windows of the data file by window number, least recently used first. */
+  private final Map<Long, ByteBuffer> windows =
+      new LinkedHashMap<Long, ByteBuffer>(MAX_WINDOWS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ByteBuffer> eldest) {
+          return size() > MAX_WINDOWS;
+        }
+      };
+
+  /** The size of a window in bytes. */
+  private int windowBytes = WINDOW_BYTES;
+
+  private MappedFilePaginator(FileChannel channel, Layout layout, int pageSize) {
+    this.channel = channel;
+    this.layout = layout;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Opens a paginator over a file of fixed-length records. Trailing bytes that do not form a
+   * complete record are ignored until the record is completed.
+   *
+   * @param file the data file
+   * @param recordLength the length of each record in bytes; must be greater than zero
+   * @param pageSize the number of records per page; must be greater than zero
+   * @return a new paginator, which must be closed
+   * @throws IllegalArgumentException if recordLength or pageSize is less than or equal to zero, or
+   *     a page would exceed 2 GiB
+   * @throws IllegalStateException if the file cannot be opened
+   */
+  public static MappedFilePaginator fixedLength(Path file, int recordLength, int pageSize) {
+    validatePageSize(pageSize);
+    if (recordLength <= 0) {
+      throw new IllegalArgumentException("Record length must be greater than zero.");
+    }
+    if ((long) recordLength * pageSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("A page must not exceed 2 GiB.");
+    }
+    FileChannel channel = open(file, StandardOpenOption.READ);
+    try {
+      return new MappedFilePaginator(
+          channel, new FixedLengthLayout(channel, recordLength), pageSize);
+    } catch (RuntimeException e) {
+      closeQuietly(channel);
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a paginator over a file of newline-delimited records, indexed in a file named like the
+   * data file with an additional {@code .idx} extension.
+   *
+   * @param file the data file
+   * @param pageSize the number of records per page; must be greater than zero
+   * @return a new paginator, which must be closed
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   * @throws IllegalStateException if the data or index file cannot be opened
+   */
+  public static MappedFilePaginator delimited(Path file, int pageSize) {
+    Path indexFile = Paths.get(file.toString() + ".idx");
+    return delimited(file, indexFile, pageSize);
+  }
+
+  /**
+   * Opens a paginator over a file of newline-delimited records. The index file is created if it
+   * does not exist, extended if the data file grew, and rebuilt if the data file shrank or its
+   * indexed content changed.
+   *
+   * @param file the data file
+   * @param indexFile the file the record offsets are persisted to
+   * @param pageSize the number of records per page; must be greater than zero
+   * @return a new paginator, which must be closed
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   * @throws IllegalStateException if the data or index file cannot be opened
+   */
+  public static MappedFilePaginator delimited(Path file, Path indexFile, int pageSize) {
+    validatePageSize(pageSize);
+    FileChannel channel = open(file, StandardOpenOption.READ);
+    FileChannel indexChannel = null;
+    try {
+      indexChannel =
+          open(
+              indexFile,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.CREATE);
+      return new MappedFilePaginator(
+          channel, new DelimitedLayout(channel, indexChannel), pageSize);
+    } catch (RuntimeException e) {
+      closeQuietly(channel);
+      closeQuietly(indexChannel);
+      throw e;
+    }
+  }
+
+  /**
+   * Retrieves the records of the specified page as read-only views of the mapped file.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable list of records for the specified page, or an empty list if the page
+   *     is out of range
+   * @throws IllegalArgumentException if pageNumber is negative
+   * @throws IllegalStateException if the file cannot be read or a page exceeds 2 GiB
+   */
+  public synchronized List<ByteBuffer> getPage(long pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    long records = layout.recordCount();
+    if (pageNumber >= pageCount(records)) {
+      return Collections.emptyList();
+    }
+    long from = pageNumber * pageSize;
+    int count = (int) Math.min(pageSize, records - from);
+    try {
+      long[] bounds = layout.bounds(from, count);
+      long base = bounds[0];
+      long length = bounds[2 * count - 1] - base;
+      if (length > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Page " + pageNumber + " exceeds 2 GiB.");
+      }
+      ByteBuffer mapping = map(base, (int) length);
+      List<ByteBuffer> page = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        int start = (int) (bounds[2 * i] - base);
+        int end = (int) (bounds[2 * i + 1] - base);
+        if (layout.isDelimited() && end > start && mapping.get(end - 1) == '\r') {
+          end--;
+        }
+        ByteBuffer record = mapping.duplicate();
+        Buffers.range(record, start, end);
+        page.add(record.slice());
+      }
+      return Collections.unmodifiableList(page);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not read page " + pageNumber, e);
+    }
+  }
+
+  /**
+   * Picks up records appended to the file since the last refresh, extending the index of delimited
+   * files incrementally. The index is rebuilt if the indexed part of the file was rewritten.
+   *
+   * @throws IllegalStateException if the file or index cannot be read or written
+   */
+  public synchronized void refresh() {
+    try {
+      layout.refresh();
+      // Windows reaching beyond the end of a truncated file must not be read from
+      long size = channel.size();
+      windows
+          .entrySet()
+          .removeIf(window -> window.getKey() * windowBytes + window.getValue().capacity() > size);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not refresh the record index", e);
+    }
+  }
+
+  /**
+   * Returns the number of records as of the last refresh.
+   *
+   * @return the number of records
+   */
+  public synchronized long getRecordCount() {
+    return layout.recordCount();
+  }
+
+  /**
+   * Returns the total number of pages as of the last refresh.
+   *
+   * @return the total number of pages
+   */
+  public synchronized long getTotalPages() {
+    return pageCount(layout.recordCount());
+  }
+
+  /**
+   * Returns the maximum number of records per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** Closes the data file and the index file. */
+  @Override
+  public synchronized void close() throws IOException {
+    windows.clear();
+    try {
+      layout.close();
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Sets the size of the mapping windows, dropping the windows mapped so far. Tests use small
+   * windows to cover pages crossing a window boundary.
+   *
+   * @param windowBytes the size of a window in bytes
+   */
+  synchronized void setWindowBytes(int windowBytes) {
+    this.windowBytes = windowBytes;
+    windows.clear();
+  }
+
+  /**
+   * Returns a read-only buffer over the given byte range of the data file, sliced from the window
+   * holding the range. The window is mapped on first use, and remapped once the file has grown past
+   * the end of a shorter last window.
+   */
+  private ByteBuffer map(long position, int length) throws IOException {
+    long window = position / windowBytes;
+    long windowStart = window * windowBytes;
+    long end = position + length;
+    if (end > windowStart + windowBytes) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+    ByteBuffer mapping = windows.get(window);
+    if (mapping == null || windowStart + mapping.capacity() < end) {
+      // A file shrunk below the range makes the mapping fail rather than expose missing bytes
+      long windowLength =
+          Math.max(end - windowStart, Math.min(windowBytes, channel.size() - windowStart));
+      mapping = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+      windows.put(window, mapping);
+    }
+    ByteBuffer range = mapping.duplicate();
+    Buffers.range(range, (int) (position - windowStart), (int) (end - windowStart));
+    return range.slice();
+  }
+
+  private long pageCount(long records) {
+    return records / pageSize + (records % pageSize == 0 ? 0 : 1);
+  }
+
+  private static void validatePageSize(int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+  }
+
+  private static FileChannel open(Path file, StandardOpenOption... options) {
+    try {
+      return FileChannel.open(file, options);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not open file: " + file, e);
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException ignored) {
+      // Already failing, the original exception is more relevant
+    }
+  }
+
+  /** Locates the records within the data file. */
+  private interface Layout extends Closeable {
+
+    /** Returns the number of records as of the last refresh. */
+    long recordCount();
+
+    /** Returns whether records end with a line terminator that is excluded from their bounds. */
+    boolean isDelimited();
+
+    /**
+     * Returns the absolute start (inclusive) and end (exclusive) offsets of a range of records, as
+     * alternating entries.
+     */
+    long[] bounds(long from, int count) throws IOException;
+
+    /** Picks up records appended to the data file, or starts over if the file was replaced. */
+    void refresh() throws IOException;
+
+    @Override
+    default void close() throws IOException {}
+  }
+
+  /** Records of a fixed length, located by computation. */
+  private static final class FixedLengthLayout implements Layout {
+    private final FileChannel channel;
+    private final int recordLength;
+    private long recordCount;
+
+    private FixedLengthLayout(FileChannel channel, int recordLength) {
+      this.channel = channel;
+      this.recordLength = recordLength;
+      try {
+        refresh();
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not read file size", e);
+      }
+    }
+
+    @Override
+    public long recordCount() {
+      return recordCount;
+    }
+
+    @Override
+    public boolean isDelimited() {
+      return false;
+    }
+
+    @Override
+    public long[] bounds(long from, int count) {
+      long[] bounds = new long[2 * count];
+      for (int i = 0; i < count; i++) {
+        bounds[2 * i] = (from + i) * recordLength;
+        bounds[2 * i + 1] = bounds[2 * i] + recordLength;
+      }
+      return bounds;
+    }
+
+    @Override
+    public void refresh() throws IOException {
+      recordCount = channel.size() / recordLength;
+    }
+  }
+
+  /**
+   * Newline-delimited records, located through a persisted index of record start offsets.
+   *
+   * <p>The index file starts with a header of four longs: a format marker, the number of data
+   * bytes covered by the index, the number of indexed records, and a fingerprint of the covered
+   * bytes. The header is followed by the start offset of each newline-terminated record. The header
+   * is written after the offsets, so an interrupted update is rolled back to the last complete
+   * state when the index is opened again.
+   *
+   * <p>The fingerprint is a CRC-32 of the first and the last {@value #FINGERPRINT_BYTES} covered
+   * bytes. Checking it costs two small reads, and catches a data file that was replaced by one of
+   * the same or a larger size, which the size alone cannot tell apart from an append.
+   */
+  private static final class DelimitedLayout implements Layout {
+    /** The marker of the current index format, "GUTILIX2" in ASCII. */
+    private static final long FORMAT = 0x4755_5449_4c49_5832L;
+
+    private static final int HEADER_BYTES = 4 * Long.BYTES;
+    private static final int FINGERPRINT_BYTES = 4 * 1024;
+    private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final FileChannel index;
+
+    /** The number of data bytes covered by the index; the next record starts here. */
+    private long indexedBytes;
+
+    /** The number of newline-terminated records in the index. */
+    private long indexedRecords;
+
+    /** The fingerprint of the data bytes covered by the index. */
+    private long fingerprint;
+
+    /** The size of the data file as of the last refresh. */
+    private long fileSize;
+
+    private DelimitedLayout(FileChannel channel, FileChannel index) {
+      this.channel = channel;
+      this.index = index;
+      try {
+        readHeader();
+        refresh();
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not build the record index", e);
+      }
+    }
+
+    @Override
+    public long recordCount() {
+      // A trailing line without terminator counts as a record of its own
+      return indexedRecords + (fileSize > indexedBytes ? 1 : 0);
+    }
+
+    @Override
+    public boolean isDelimited() {
+      return true;
+    }
+
+    @Override
+    public long[] bounds(long from, int count) throws IOException {
+      // Reading one start beyond the range yields the end of the last record
+      long indexed = Math.min(count + 1, Math.max(0, indexedRecords - from));
+      ByteBuffer starts = ByteBuffer.allocate((int) indexed * Long.BYTES);
+      readFully(index, starts, HEADER_BYTES + from * Long.BYTES);
+      Buffers.flip(starts);
+
+      long[] bounds = new long[2 * count];
+      for (int i = 0; i < count; i++) {
+        long start = i < indexed ? starts.getLong(i * Long.BYTES) : indexedBytes;
+        long next = i + 1 < indexed ? starts.getLong((i + 1) * Long.BYTES) : indexedBytes;
+        boolean terminated = from + i < indexedRecords;
+        bounds[2 * i] = start;
+        bounds[2 * i + 1] = terminated ? next - 1 : fileSize;
+      }
+      return bounds;
+    }
+
+    @Override
+    public void refresh() throws IOException {
+      long size = channel.size();
+      if (size < indexedBytes || fingerprint(indexedBytes) != fingerprint) {
+        // The data file was truncated or replaced, so the index no longer applies
+        reset();
+      }
+      if (size > indexedBytes) {
+        scan(size);
+      }
+      fileSize = size;
+    }
+
+    @Override
+    public void close() throws IOException {
+      index.close();
+    }
+
+    /**
+     * Reads the header and discards offsets written after the last complete update. Index files of
+     * another format or with an inconsistent header are started over.
+     */
+    private void readHeader() throws IOException {
+      if (index.size() < HEADER_BYTES) {
+        reset();
+        return;
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      readFully(index, header, 0);
+      indexedBytes = header.getLong(Long.BYTES);
+      indexedRecords = header.getLong(2 * Long.BYTES);
+      fingerprint = header.getLong(3 * Long.BYTES);
+      long expectedSize = HEADER_BYTES + indexedRecords * Long.BYTES;
+      if (header.getLong(0) != FORMAT
+          || indexedBytes < 0
+          || indexedRecords < 0
+          || index.size() < expectedSize) {
+        reset();
+        return;
+      }
+      index.truncate(expectedSize);
+    }
+
+    /** Empties the index, so that the next refresh scans the data file from the start. */
+    private void reset() throws IOException {
+      indexedBytes = 0;
+      indexedRecords = 0;
+      fingerprint = fingerprint(0);
+      index.truncate(HEADER_BYTES);
+      writeHeader();
+    }
+
+    /** Computes the fingerprint of the first given number of data bytes. */
+    private long fingerprint(long length) throws IOException {
+      CRC32 crc = new CRC32();
+      ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(FINGERPRINT_BYTES, length));
+      if (bytes.hasRemaining()) {
+        readFully(channel, bytes, 0);
+        Buffers.flip(bytes);
+        crc.update(bytes);
+        Buffers.clear(bytes);
+        readFully(channel, bytes, length - bytes.capacity());
+        Buffers.flip(bytes);
+        crc.update(bytes);
+      }
+      return crc.getValue();
+    }
+
+    /** Scans the data file from the end of the index up to the given size for new records. */
+    private void scan(long size) throws IOException {
+      ByteBuffer data = ByteBuffer.allocateDirect(SCAN_BUFFER_BYTES);
+      ByteBuffer offsets = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+      long position = indexedBytes;
+      long recordStart = indexedBytes;
+      long records = indexedRecords;
+      long indexPosition = HEADER_BYTES + indexedRecords * Long.BYTES;
+      while (position < size) {
+        Buffers.range(data, 0, (int) Math.min(SCAN_BUFFER_BYTES, size - position));
+        int read = channel.read(data, position);
+        if (read <= 0) {
+          break;
+        }
+        for (int i = 0; i < read; i++) {
+          if (data.get(i) == '\n') {
+            if (!offsets.hasRemaining()) {
+              indexPosition += flush(offsets, indexPosition);
+            }
+            offsets.putLong(recordStart);
+            records++;
+            recordStart = position + i + 1;
+          }
+        }
+        position += read;
+      }
+      flush(offsets, indexPosition);
+      indexedBytes = recordStart;
+      indexedRecords = records;
+      fingerprint = fingerprint(indexedBytes);
+      writeHeader();
+    }
+
+    /** Writes the collected offsets to the index and clears the buffer. */
+    private int flush(ByteBuffer offsets, long indexPosition) throws IOException {
+      Buffers.flip(offsets);
+      int bytes = offsets.remaining();
+      long position = indexPosition;
+      while (offsets.hasRemaining()) {
+        position += index.write(offsets, position);
+      }
+      Buffers.clear(offsets);
+      return bytes;
+    }
+
+    private void writeHeader() throws IOException {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.putLong(FORMAT).putLong(indexedBytes).putLong(indexedRecords).putLong(fingerprint);
+      Buffers.flip(header);
+      long position = 0;
+      while (header.hasRemaining()) {
+        position += index.write(header, position);
+      }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException {
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of file");
+        }
+        position += read;
+      }
+    }
+  }
+}
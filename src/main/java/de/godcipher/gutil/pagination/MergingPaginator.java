@@ -0,0 +1,295 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A paginator over the globally sorted union of several individually sorted shards, such as the
+ * results of several nodes or partitions.
+ *
+ * <p>Pages are produced by a heap-based k-way merge. Each shard is read in batches of one page
+ * size, which is the most a single page can take from it, and a batch is only loaded once the
+ * merge reaches it. After each merged page, the read position in every shard is kept as a
+ * checkpoint, so the next page continues the merge instead of starting over, and revisiting a page
+ * restarts from its checkpoint. Reaching page p the first time merges p pages; later requests for
+ * pages up to p merge a single page.
+ *
+ * <p>Every shard must be sorted by the comparator and must not contain null items. Items comparing
+ * as equal are ordered by the index of their shard. Page requests are processed one after another
+ * in the order they were made.
+ *
+ * @param <T> the type of the items
+ */
+public class MergingPaginator<T> {
+
+  /** The sorted shards to merge, each with its current batch. */
+  private final List<Shard<T>> shards;
+
+  /** The order of the items within and across shards. */
+  private final Comparator<? super T> comparator;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The read position in each shard at the start of each page merged so far. */
+  private final List<long[]> checkpoints = new ArrayList<>();
+
+  /** The last requested page, which the next request waits for. */
+  private CompletableFuture<?> lastRequest = CompletableFuture.completedFuture(null);
+
+  /**
+   * Constructs a MergingPaginator over the given shards.
+   *
+   * @param shards the shards to merge, each sorted by the comparator
+   * @param comparator the order of the items
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if shards or comparator is null, or pageSize is less than or
+   *     equal to zero
+   */
+  public MergingPaginator(
+      List<? extends PageSource<T>> shards, Comparator<? super T> comparator, int pageSize) {
+    if (shards == null || comparator == null) {
+      throw new IllegalArgumentException("Shards and comparator must not be null.");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    this.shards = new ArrayList<>(shards.size());
+    for (PageSource<T> shard : shards) {
+      this.shards.add(new Shard<>(shard, pageSize));
+    }
+    this.comparator = comparator;
+    this.pageSize = pageSize;
+    this.checkpoints.add(new long[shards.size()]);
+  }
+
+  /**
+   * Constructs a MergingPaginator over in-memory shards.
+   *
+   * @param shards the shards to merge, each sorted by the comparator
+   * @param comparator the order of the items
+   * @param pageSize the number of items per page; must be greater than zero
+   * @return a new MergingPaginator
+   * @throws IllegalArgumentException if shards or comparator is null, or pageSize is less than or
+   *     equal to zero
+   */
+  public static <T> MergingPaginator<T> ofLists(
+      List<? extends List<T>> shards, Comparator<? super T> comparator, int pageSize) {
+    if (shards == null) {
+      throw new IllegalArgumentException("Shards and comparator must not be null.");
+    }
+    List<PageSource<T>> sources = new ArrayList<>(shards.size());
+    for (List<T> shard : shards) {
+      sources.add(PageSource.of(shard));
+    }
+    return new MergingPaginator<>(sources, comparator, pageSize);
+  }
+
+  /**
+   * Merges the items for the specified page.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return a future completed with an unmodifiable list of the items of the page, or an empty list
+   *     if the page is out of range
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public synchronized CompletableFuture<List<T>> getPage(long pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    // Merges share the shard batches and checkpoints, so they run strictly one after another
+    CompletableFuture<List<T>> page =
+        lastRequest.handle((result, failure) -> null).thenCompose(ignored -> advance(pageNumber));
+    lastRequest = page;
+    return page;
+  }
+
+  /**
+   * Returns the total number of pages, if all shards know their size.
+   *
+   * @return the total number of pages, or an empty optional if the size of a shard is unknown
+   */
+  public OptionalLong getTotalPages() {
+    long items = 0;
+    for (Shard<T> shard : shards) {
+      OptionalLong size = shard.source.size();
+      if (!size.isPresent()) {
+        return OptionalLong.empty();
+      }
+      items += size.getAsLong();
+    }
+    return OptionalLong.of(items / pageSize + (items % pageSize == 0 ? 0 : 1));
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Merges pages from the nearest checkpoint until the requested page is reached. Merges that
+   * complete synchronously are continued in a loop rather than by recursion.
+   */
+  private CompletableFuture<List<T>> advance(long pageNumber) {
+    while (true) {
+      int start = (int) Math.min(pageNumber, checkpoints.size() - 1);
+      Merge merge = new Merge(checkpoints.get(start));
+      CompletableFuture<List<T>> page = merge.run();
+      if (!page.isDone() || page.isCompletedExceptionally()) {
+        return page.thenCompose(
+            items ->
+                record(merge, start, items, pageNumber)
+                    ? CompletableFuture.completedFuture(result(start, items, pageNumber))
+                    : advance(pageNumber));
+      }
+      List<T> items = page.join();
+      if (record(merge, start, items, pageNumber)) {
+        return CompletableFuture.completedFuture(result(start, items, pageNumber));
+      }
+    }
+  }
+
+  /**
+   * Stores the checkpoint after a merged page and returns whether merging is finished, either
+   * because the requested page was merged or because the shards ran out before it.
+   */
+  private boolean record(Merge merge, int start, List<T> items, long pageNumber) {
+    boolean full = items.size() == pageSize;
+    if (full && start == checkpoints.size() - 1) {
+      checkpoints.add(merge.positions);
+    }
+    return start == pageNumber || !full;
+  }
+
+  private List<T> result(int start, List<T> items, long pageNumber) {
+    return start == pageNumber ? Collections.unmodifiableList(items) : Collections.emptyList();
+  }
+
+  /** The merge of a single page, starting from a checkpoint. */
+  private final class Merge {
+    private final long[] positions;
+    private final PriorityQueue<Head<T>> heap;
+    private final List<T> page = new ArrayList<>(pageSize);
+
+    private Merge(long[] checkpoint) {
+      this.positions = checkpoint.clone();
+      Comparator<Head<T>> order = (a, b) -> comparator.compare(a.item, b.item);
+      this.heap =
+          new PriorityQueue<>(
+              Math.max(1, shards.size()), order.thenComparingInt(head -> head.shard));
+    }
+
+    /** Loads the head of every shard in parallel, then merges until the page is full. */
+    private CompletableFuture<List<T>> run() {
+      List<CompletableFuture<T>> heads = new ArrayList<>(shards.size());
+      for (int shard = 0; shard < shards.size(); shard++) {
+        heads.add(shards.get(shard).itemAt(positions[shard]));
+      }
+      return CompletableFuture.allOf(heads.toArray(new CompletableFuture<?>[0]))
+          .thenCompose(
+              loaded -> {
+                for (int shard = 0; shard < heads.size(); shard++) {
+                  offer(shard, heads.get(shard).join());
+                }
+                return merge();
+              });
+    }
+
+    /**
+     * Takes items off the heap until the page is full, waiting whenever a batch must be loaded to
+     * replace a taken item. The item taken last is not replaced, as the page is complete then.
+     */
+    private CompletableFuture<List<T>> merge() {
+      while (page.size() < pageSize && !heap.isEmpty()) {
+        Head<T> head = heap.poll();
+        page.add(head.item);
+        int shard = head.shard;
+        positions[shard]++;
+        if (page.size() == pageSize) {
+          // The next page loads the successor from the checkpoint, if it is ever requested
+          break;
+        }
+        CompletableFuture<T> next = shards.get(shard).itemAt(positions[shard]);
+        if (!next.isDone() || next.isCompletedExceptionally()) {
+          return next.thenCompose(
+              item -> {
+                offer(shard, item);
+                return merge();
+              });
+        }
+        offer(shard, next.join());
+      }
+      return CompletableFuture.completedFuture(page);
+    }
+
+    private void offer(int shard, T item) {
+      if (item != null) {
+        heap.add(new Head<>(shard, item));
+      }
+    }
+  }
+
+  /** The smallest unmerged item of a shard. */
+  private static final class Head<T> {
+    private final int shard;
+    private final T item;
+
+    private Head(int shard, T item) {
+      this.shard = shard;
+      this.item = item;
+    }
+  }
+
+  /** A shard with the batch of items it loaded last. */
+  private static final class Shard<T> {
+    private final PageSource<T> source;
+    private final int batchSize;
+    private List<T> batch = Collections.emptyList();
+    private long batchOffset;
+
+    /** The number of items in the shard, or -1 while the end has not been reached. */
+    private long end = -1;
+
+    private Shard(PageSource<T> source, int batchSize) {
+      if (source == null) {
+        throw new IllegalArgumentException("Shards must not be null.");
+      }
+      this.source = source;
+      this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the item at the given position, loading the batch starting there if necessary.
+     *
+     * @return a future completed with the item, or with null if the shard ends before the position
+     */
+    private CompletableFuture<T> itemAt(long position) {
+      if (position >= batchOffset && position < batchOffset + batch.size()) {
+        return CompletableFuture.completedFuture(batch.get((int) (position - batchOffset)));
+      }
+      if (end >= 0 && position >= end) {
+        return CompletableFuture.completedFuture(null);
+      }
+      return source
+          .load(position, batchSize)
+          .thenApply(
+              items -> {
+                batch = items;
+                batchOffset = position;
+                if (items.size() < batchSize) {
+                  end = position + items.size();
+                }
+                return items.isEmpty() ? null : items.get(0);
+              });
+    }
+  }
+}
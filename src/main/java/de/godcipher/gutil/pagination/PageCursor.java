@@ -0,0 +1,158 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor that pages through a list sequentially while keeping its iterator position between
+ * pages.
+ *
+ * <p>Unlike {@link ListPaginator#getPage(int)}, which locates every page by index, a cursor only
+ * walks the items it returns. Paging through a {@link java.util.LinkedList} or another sequential
+ * list therefore costs O(total) instead of O(pages²).
+ *
+ * <p>The cursor follows the semantics of {@link ListIterator}: it sits between two pages, {@link
+ * #next()} returns the page after the cursor and {@link #previous()} the page before it, so
+ * alternating calls return the same page. The cursor is fail-fast like the iterator of the
+ * underlying list.
+ */
+public class PageCursor<T> {
+
+  /** Iterator over the underlying list, always positioned on a page boundary. */
+  private final ListIterator<T> iterator;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The index of the item after the cursor. */
+  private long offset;
+
+  /**
+   * Constructs a PageCursor positioned before the first page of the list.
+   *
+   * @param items the list of items to page through
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public PageCursor(List<T> items, int pageSize) {
+    this(items, pageSize, 0);
+  }
+
+  /**
+   * Constructs a PageCursor positioned before the specified page of the list.
+   *
+   * @param items the list of items to page through
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param pageNumber the page the cursor is positioned before (zero-based index); must be
+   *     non-negative
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero or pageNumber is
+   *     negative
+   */
+  public PageCursor(List<T> items, int pageSize, long pageNumber) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    // Clamp before multiplying so large page numbers cannot overflow
+    int startIndex =
+        pageNumber > items.size() / pageSize ? items.size() : (int) (pageNumber * pageSize);
+    this.iterator = items.listIterator(startIndex);
+    this.pageSize = pageSize;
+    this.offset = startIndex;
+  }
+
+  /**
+   * Returns whether there is a page after the cursor.
+   *
+   * @return true if {@link #next()} would return a non-empty page
+   */
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  /**
+   * Returns whether there is a page before the cursor.
+   *
+   * @return true if {@link #previous()} would return a non-empty page
+   */
+  public boolean hasPrevious() {
+    return iterator.hasPrevious();
+  }
+
+  /**
+   * Returns the page after the cursor and advances the cursor past it.
+   *
+   * @return an unmodifiable list of the items on the next page
+   * @throws NoSuchElementException if there is no next page
+   */
+  public List<T> next() {
+    if (!iterator.hasNext()) {
+      throw new NoSuchElementException("No next page.");
+    }
+    List<T> page = new ArrayList<>(pageSize);
+    while (page.size() < pageSize && iterator.hasNext()) {
+      page.add(iterator.next());
+    }
+    offset += page.size();
+    return Collections.unmodifiableList(page);
+  }
+
+  /**
+   * Returns the page before the cursor and moves the cursor back before it.
+   *
+   * @return an unmodifiable list of the items on the previous page
+   * @throws NoSuchElementException if there is no previous page
+   */
+  public List<T> previous() {
+    if (!iterator.hasPrevious()) {
+      throw new NoSuchElementException("No previous page.");
+    }
+    // The last page may be partial, so step back to the previous page boundary
+    int remainder = (int) (offset % pageSize);
+    int count = remainder == 0 ? pageSize : remainder;
+    T[] buffer = newArray(count);
+    for (int i = count - 1; i >= 0; i--) {
+      buffer[i] = iterator.previous();
+    }
+    offset -= count;
+    return Collections.unmodifiableList(Arrays.asList(buffer));
+  }
+
+  /**
+   * Returns the index of the item after the cursor.
+   *
+   * @return the zero-based offset of the cursor
+   */
+  public long getOffset() {
+    return offset;
+  }
+
+  /**
+   * Returns the number of the page after the cursor, i.e. the page {@link #next()} would return.
+   *
+   * @return the zero-based page number
+   */
+  public long getPageNumber() {
+    return (offset + pageSize - 1) / pageSize;
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T[] newArray(int length) {
+    return (T[]) new Object[length];
+  }
+}
@@ -0,0 +1,269 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A Reactive Streams publisher of pages that only loads pages as subscribers request them.
+ *
+ * <p>Each subscriber receives all pages from the first one, in order, and completes after the last
+ * page. A page is loaded only once the subscriber has requested it, and at most {@code
+ * maxInFlight} pages of a subscriber are loading at the same time. Slow subscribers therefore
+ * neither block a thread while waiting nor cause pages to pile up in memory.
+ *
+ * <pre>{@code
+ * PagePublisher<Item> publisher = new PagePublisher<>(source, 45, 2);
+ * publisher.subscribe(clientSubscriber);
+ * }</pre>
+ *
+ * <p>Signals to a subscriber are delivered on the thread that completes the page load, or on the
+ * thread calling {@link Subscription#request(long)} if the page is already loaded.
+ *
+ * @param <T> the type of the items
+ */
+public class PagePublisher<T> implements Publisher<List<T>> {
+
+  /** Loads a page by its number. */
+  private final LongFunction<CompletableFuture<List<T>>> loader;
+
+  /** Returns the total number of pages, if known. */
+  private final PageCount pageCount;
+
+  /** The maximum number of items per page; a shorter page is the last one. */
+  private final int pageSize;
+
+  /** The maximum number of pages loading at the same time per subscriber. */
+  private final int maxInFlight;
+
+  /**
+   * Constructs a PagePublisher over a page source.
+   *
+   * @param source the source to load pages from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param maxInFlight the maximum number of pages loading at the same time per subscriber; must
+   *     be greater than zero
+   * @throws IllegalArgumentException if source is null, or pageSize or maxInFlight is less than or
+   *     equal to zero
+   */
+  public PagePublisher(PageSource<T> source, int pageSize, int maxInFlight) {
+    this(new PageSourcePaginator<>(source, pageSize), maxInFlight);
+  }
+
+  private PagePublisher(PageSourcePaginator<T> paginator, int maxInFlight) {
+    this(paginator::getPage, paginator::getTotalPages, paginator.getPageSize(), maxInFlight);
+  }
+
+  private PagePublisher(
+      LongFunction<CompletableFuture<List<T>>> loader,
+      PageCount pageCount,
+      int pageSize,
+      int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("Max in flight must be greater than zero.");
+    }
+    this.loader = loader;
+    this.pageCount = pageCount;
+    this.pageSize = pageSize;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Creates a PagePublisher over the pages of a paginator.
+   *
+   * @param paginator the paginator to publish the pages of
+   * @param maxInFlight the maximum number of pages loading at the same time per subscriber; must
+   *     be greater than zero
+   * @return a new PagePublisher
+   * @throws IllegalArgumentException if maxInFlight is less than or equal to zero
+   */
+  public static <T> PagePublisher<T> of(PageSourcePaginator<T> paginator, int maxInFlight) {
+    return new PagePublisher<>(paginator, maxInFlight);
+  }
+
+  /**
+   * Creates a PagePublisher over the pages of an in-memory paginator. Since the pages are
+   * available immediately, they are delivered on the thread requesting them.
+   *
+   * @param paginator the paginator to publish the pages of
+   * @param maxInFlight the maximum number of pages loading at the same time per subscriber; must
+   *     be greater than zero
+   * @return a new PagePublisher
+   * @throws IllegalArgumentException if maxInFlight is less than or equal to zero
+   */
+  public static <T> PagePublisher<T> of(ListPaginator<T> paginator, int maxInFlight) {
+    // Pages are only loaded below the total page count, which is an int
+    return new PagePublisher<>(
+        page -> CompletableFuture.completedFuture(paginator.getPage((int) page)),
+        () -> OptionalLong.of(paginator.getTotalPages()),
+        paginator.getPageSize(),
+        maxInFlight);
+  }
+
+  /**
+   * Subscribes a subscriber, which then receives the pages from the first one as it requests them.
+   *
+   * @param subscriber the subscriber to deliver the pages to
+   * @throws NullPointerException if subscriber is null
+   */
+  @Override
+  public void subscribe(Subscriber<? super List<T>> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber must not be null.");
+    }
+    OptionalLong totalPages = pageCount.get();
+    PageSubscription subscription =
+        new PageSubscription(subscriber, totalPages.orElse(Long.MAX_VALUE));
+    subscriber.onSubscribe(subscription);
+    // Sources known to be empty complete right away, without waiting for demand
+    subscription.drain();
+  }
+
+  /** Supplies the total number of pages, if known. */
+  @FunctionalInterface
+  private interface PageCount {
+    OptionalLong get();
+  }
+
+  /**
+   * The subscription of a single subscriber. All signals are emitted from {@link #drain()}, which
+   * only one thread runs at a time, so they are serialized as the specification requires.
+   */
+  private final class PageSubscription implements Subscription {
+    private final Subscriber<? super List<T>> subscriber;
+    private final long totalPages;
+
+    /** The number of pages requested in total, capped at {@link Long#MAX_VALUE}. */
+    private final AtomicLong requested = new AtomicLong();
+
+    /** The number of pending drain calls; only the call raising it from zero drains. */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /** The loading pages in page order; only accessed while draining. */
+    private final ArrayDeque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+
+    /** The number of pages delivered; only accessed while draining. */
+    private long emitted;
+
+    /** The number of the next page to load; only accessed while draining. */
+    private long nextPage;
+
+    /** Whether a terminal signal was sent; only accessed while draining. */
+    private boolean done;
+
+    private PageSubscription(Subscriber<? super List<T>> subscriber, long totalPages) {
+      this.subscriber = subscriber;
+      this.totalPages = totalPages;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest =
+            new IllegalArgumentException("Requested pages must be positive, but was " + n);
+      } else {
+        requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (cancelled || done) {
+          // Loads are left to finish, since a caching source may share them with other requests
+          inFlight.clear();
+        } else {
+          emitLoadedPages();
+          loadRequestedPages();
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    /** Delivers loaded pages in order while there is demand, and sends terminal signals. */
+    private void emitLoadedPages() {
+      if (invalidRequest != null) {
+        terminate(invalidRequest);
+        return;
+      }
+      while (!cancelled && emitted < requested.get()) {
+        CompletableFuture<List<T>> head = inFlight.peek();
+        if (head == null || !head.isDone()) {
+          break;
+        }
+        inFlight.poll();
+        List<T> page;
+        try {
+          page = head.join();
+        } catch (CompletionException | CancellationException e) {
+          terminate(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+          return;
+        }
+        boolean last = page.size() < pageSize;
+        if (!page.isEmpty()) {
+          emitted++;
+          subscriber.onNext(page);
+        }
+        if (last) {
+          terminate(null);
+          return;
+        }
+      }
+      if (!cancelled && inFlight.isEmpty() && nextPage >= totalPages) {
+        terminate(null);
+      }
+    }
+
+    /** Starts loading pages up to the demand, within the in-flight limit. */
+    private void loadRequestedPages() {
+      while (!done
+          && !cancelled
+          && nextPage < totalPages
+          && inFlight.size() < maxInFlight
+          && emitted + inFlight.size() < requested.get()) {
+        CompletableFuture<List<T>> page;
+        try {
+          page = loader.apply(nextPage++);
+        } catch (RuntimeException e) {
+          page = new CompletableFuture<>();
+          page.completeExceptionally(e);
+        }
+        inFlight.add(page);
+        // Runs right away if the page is already loaded; the running drain loop picks it up
+        page.whenComplete((items, failure) -> drain());
+      }
+    }
+
+    private void terminate(Throwable failure) {
+      done = true;
+      inFlight.clear();
+      if (failure == null) {
+        subscriber.onComplete();
+      } else {
+        subscriber.onError(failure);
+      }
+    }
+  }
+}
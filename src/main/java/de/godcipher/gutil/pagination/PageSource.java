@@ -0,0 +1,68 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A source of items that are loaded asynchronously in ranges, e.g. from a database or a remote
+ * service. Paginated views such as {@link PageSourcePaginator} sit on top of a PageSource.
+ *
+ * @param <T> the type of the items
+ */
+public interface PageSource<T> {
+
+  /**
+   * Loads a range of items.
+   *
+   * @param offset the index of the first item to load; must be non-negative
+   * @param limit the maximum number of items to load; must be greater than zero
+   * @return a future completed with the loaded items, which holds fewer than {@code limit} items
+   *     only if the source ends within the range
+   */
+  CompletableFuture<List<T>> load(long offset, int limit);
+
+  /**
+   * Returns the total number of items, if the source knows it.
+   *
+   * @return the number of items, or an empty optional if unknown
+   */
+  default OptionalLong size() {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Creates a PageSource over an in-memory list. Loads complete immediately with a copy of the
+   * requested range.
+   *
+   * @param items the list of items
+   * @return a new PageSource over the list
+   * @throws IllegalArgumentException if items is null
+   */
+  static <T> PageSource<T> of(List<T> items) {
+    if (items == null) {
+      throw new IllegalArgumentException("Items must not be null.");
+    }
+    return new PageSource<T>() {
+      @Override
+      public CompletableFuture<List<T>> load(long offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+          throw new IllegalArgumentException("Offset must be non-negative and limit positive.");
+        }
+        if (offset >= items.size()) {
+          return CompletableFuture.completedFuture(Collections.<T>emptyList());
+        }
+        int toIndex = (int) Math.min(offset + limit, items.size());
+        List<T> page = new ArrayList<>(items.subList((int) offset, toIndex));
+        return CompletableFuture.completedFuture(Collections.unmodifiableList(page));
+      }
+
+      @Override
+      public OptionalLong size() {
+        return OptionalLong.of(items.size());
+      }
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A paginator that loads its pages asynchronously from a {@link PageSource}.
+ *
+ * <p>Whenever a page is requested, up to {@code prefetchDistance} neighbouring pages on either side
+ * are requested speculatively as well. This only pays off if the source caches its results, so the
+ * paginator is usually placed on top of a {@link CachingPageSource}:
+ *
+ * <pre>{@code
+ * PageSource<Item> cached = CachingPageSource.builder(slowSource).maximumSize(32).build();
+ * PageSourcePaginator<Item> paginator = new PageSourcePaginator<>(cached, 45, 1);
+ * paginator.getPage(0).thenAccept(gui::render);
+ * }</pre>
+ *
+ * @param <T> the type of the items
+ */
+public class PageSourcePaginator<T> {
+
+  /** The source the pages are loaded from. */
+  private final PageSource<T> source;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The number of neighbouring pages on either side to load speculatively. */
+  private final int prefetchDistance;
+
+  /**
+   * Constructs a PageSourcePaginator that does not load neighbouring pages.
+   *
+   * @param source the source to load pages from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if source is null or pageSize is less than or equal to zero
+   */
+  public PageSourcePaginator(PageSource<T> source, int pageSize) {
+    this(source, pageSize, 0);
+  }
+
+  /**
+   * Constructs a PageSourcePaginator.
+   *
+   * @param source the source to load pages from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param prefetchDistance the number of neighbouring pages on either side to load speculatively;
+   *     must be non-negative
+   * @throws IllegalArgumentException if source is null, pageSize is less than or equal to zero or
+   *     prefetchDistance is negative
+   */
+  public PageSourcePaginator(PageSource<T> source, int pageSize, int prefetchDistance) {
+    if (source == null) {
+      throw new IllegalArgumentException("Source must not be null.");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    if (prefetchDistance < 0) {
+      throw new IllegalArgumentException("Prefetch distance must be non-negative.");
+    }
+    this.source = source;
+    this.pageSize = pageSize;
+    this.prefetchDistance = prefetchDistance;
+  }
+
+  /**
+   * Loads the items for the specified page and speculatively requests its neighbours.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return a future completed with the items of the page, or an empty list if the page is out of
+   *     range
+   * @throws IllegalArgumentException if pageNumber is negative or too large to address
+   */
+  public CompletableFuture<List<T>> getPage(long pageNumber) {
+    validatePageNumber(pageNumber);
+    CompletableFuture<List<T>> page = load(pageNumber);
+    OptionalLong totalPages = getTotalPages();
+    for (int distance = 1; distance <= prefetchDistance; distance++) {
+      long next = pageNumber + distance;
+      if (next <= Long.MAX_VALUE / pageSize
+          && (!totalPages.isPresent() || next < totalPages.getAsLong())) {
+        load(next);
+      }
+      if (pageNumber - distance >= 0) {
+        load(pageNumber - distance);
+      }
+    }
+    return page;
+  }
+
+  /**
+   * Returns the total number of pages, if the source knows its size.
+   *
+   * @return the total number of pages, or an empty optional if the size of the source is unknown
+   */
+  public OptionalLong getTotalPages() {
+    OptionalLong size = source.size();
+    if (!size.isPresent()) {
+      return OptionalLong.empty();
+    }
+    long items = size.getAsLong();
+    return OptionalLong.of(items / pageSize + (items % pageSize == 0 ? 0 : 1));
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  private CompletableFuture<List<T>> load(long pageNumber) {
+    return source.load(pageNumber * pageSize, pageSize);
+  }
+
+  private void validatePageNumber(long pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    if (pageNumber > Long.MAX_VALUE / pageSize) {
+      throw new IllegalArgumentException("Page number is too large.");
+    }
+  }
+}
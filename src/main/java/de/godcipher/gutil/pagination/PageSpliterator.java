@@ -0,0 +1,111 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over the pages of a list. Splits always happen on page boundaries and halve the
+ * remaining pages, so parallel streams divide the work evenly across the fork-join pool.
+ *
+ * <p>Pages are unmodifiable views of the list and are only valid as long as the list is not
+ * structurally modified. Splitting and page retrieval rely on {@link List#subList(int, int)}, so
+ * the list should implement {@link java.util.RandomAccess}.
+ *
+ * @param <T> the type of the items
+ */
+public class PageSpliterator<T> implements Spliterator<List<T>> {
+
+  /** List of items to paginate through. */
+  private final List<T> items;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The next page to emit. */
+  private int fromPage;
+
+  /** The page after the last page to emit. */
+  private final int toPage;
+
+  /**
+   * Constructs a PageSpliterator over all pages of the list.
+   *
+   * @param items the list of items to paginate
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public PageSpliterator(List<T> items, int pageSize) {
+    this(items, pageSize, 0, pageCount(items.size(), pageSize));
+  }
+
+  private PageSpliterator(List<T> items, int pageSize, int fromPage, int toPage) {
+    this.items = items;
+    this.pageSize = pageSize;
+    this.fromPage = fromPage;
+    this.toPage = toPage;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super List<T>> action) {
+    if (fromPage >= toPage) {
+      return false;
+    }
+    action.accept(page(fromPage++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super List<T>> action) {
+    while (fromPage < toPage) {
+      action.accept(page(fromPage++));
+    }
+  }
+
+  @Override
+  public Spliterator<List<T>> trySplit() {
+    int remaining = toPage - fromPage;
+    if (remaining < 2) {
+      return null;
+    }
+    int middle = fromPage + remaining / 2;
+    PageSpliterator<T> prefix = new PageSpliterator<>(items, pageSize, fromPage, middle);
+    fromPage = middle;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return toPage - fromPage;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | NONNULL;
+  }
+
+  /**
+   * Returns the specified page as an unmodifiable view of the list.
+   *
+   * @param pageNumber the page number
+   * @return the items of the page
+   */
+  private List<T> page(int pageNumber) {
+    int fromIndex = pageNumber * pageSize;
+    int toIndex = (int) Math.min((long) fromIndex + pageSize, items.size());
+    return Collections.unmodifiableList(items.subList(fromIndex, toIndex));
+  }
+
+  /**
+   * Computes the number of pages for the given number of items.
+   *
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  private static int pageCount(int size, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    return size / pageSize + (size % pageSize == 0 ? 0 : 1);
+  }
+}
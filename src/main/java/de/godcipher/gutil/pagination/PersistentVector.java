@@ -0,0 +1,200 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, structurally shared vector based on a 32-way trie with a tail buffer.
+ *
+ * <p>Appending and replacing items copy only the path from the root to the affected leaf, so a
+ * modified vector shares almost all of its nodes with the original. Appending is amortized O(1),
+ * indexed access and replacing are O(log32 n). Removing an item from the middle rebuilds the vector
+ * and costs O(n).
+ *
+ * @param <T> the type of the items
+ */
+final class PersistentVector<T> {
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private static final PersistentVector<Object> EMPTY =
+      new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+  /** The number of items. */
+  private final int size;
+
+  /** The bit shift of the root level. */
+  private final int shift;
+
+  /** The root node of the trie, holding all items before the tail. */
+  private final Object[] root;
+
+  /** The last, partially filled leaf that is not yet part of the trie. */
+  private final Object[] tail;
+
+  private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /**
+   * Returns the empty vector.
+   *
+   * @return the empty vector
+   */
+  @SuppressWarnings("unchecked")
+  static <T> PersistentVector<T> empty() {
+    return (PersistentVector<T>) EMPTY;
+  }
+
+  /**
+   * Returns the number of items.
+   *
+   * @return the size of the vector
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the item at the given index.
+   *
+   * @param index the index of the item
+   * @return the item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  @SuppressWarnings("unchecked")
+  T get(int index) {
+    checkIndex(index);
+    return (T) leafFor(index)[index & MASK];
+  }
+
+  /**
+   * Returns a vector with the given item appended.
+   *
+   * @param item the item to append
+   * @return the new vector
+   */
+  PersistentVector<T> append(T item) {
+    int tailSize = size - tailOffset();
+    if (tailSize < WIDTH) {
+      Object[] newTail = Arrays.copyOf(tail, tailSize + 1);
+      newTail[tailSize] = item;
+      return new PersistentVector<>(size + 1, shift, root, newTail);
+    }
+    // The tail is full, so it moves into the trie and a new tail is started
+    Object[] newRoot;
+    int newShift = shift;
+    if ((size >>> BITS) > (1 << shift)) {
+      newRoot = new Object[WIDTH];
+      newRoot[0] = root;
+      newRoot[1] = newPath(shift, tail);
+      newShift += BITS;
+    } else {
+      newRoot = pushTail(shift, root, tail);
+    }
+    return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {item});
+  }
+
+  /**
+   * Returns a vector with the item at the given index replaced.
+   *
+   * @param index the index of the item
+   * @param item the new item
+   * @return the new vector
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  PersistentVector<T> set(int index, T item) {
+    checkIndex(index);
+    if (index >= tailOffset()) {
+      Object[] newTail = tail.clone();
+      newTail[index & MASK] = item;
+      return new PersistentVector<>(size, shift, root, newTail);
+    }
+    return new PersistentVector<>(size, shift, assoc(shift, root, index, item), tail);
+  }
+
+  /**
+   * Returns a vector with the item at the given index removed. This rebuilds the vector.
+   *
+   * @param index the index of the item
+   * @return the new vector
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  PersistentVector<T> remove(int index) {
+    checkIndex(index);
+    PersistentVector<T> result = empty();
+    for (int i = 0; i < size; i++) {
+      if (i != index) {
+        result = result.append(get(i));
+      }
+    }
+    return result;
+  }
+
+  /** Returns the index of the first item in the tail. */
+  private int tailOffset() {
+    return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  /** Returns the leaf holding the item at the given index. */
+  private Object[] leafFor(int index) {
+    if (index >= tailOffset()) {
+      return tail;
+    }
+    Object[] node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node;
+  }
+
+  /** Copies the path to the rightmost leaf position and attaches the given leaf there. */
+  private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+    int subIndex = ((size - 1) >>> level) & MASK;
+    Object[] result = parent.clone();
+    Object[] child;
+    if (level == BITS) {
+      child = leaf;
+    } else {
+      Object[] existing = (Object[]) parent[subIndex];
+      child =
+          existing != null
+              ? pushTail(level - BITS, existing, leaf)
+              : newPath(level - BITS, leaf);
+    }
+    result[subIndex] = child;
+    return result;
+  }
+
+  /** Creates a chain of new nodes from the given level down to the leaf. */
+  private static Object[] newPath(int level, Object[] leaf) {
+    if (level == 0) {
+      return leaf;
+    }
+    Object[] node = new Object[WIDTH];
+    node[0] = newPath(level - BITS, leaf);
+    return node;
+  }
+
+  /** Copies the path to the given index and replaces the item there. */
+  private static Object[] assoc(int level, Object[] node, int index, Object item) {
+    Object[] result = node.clone();
+    if (level == 0) {
+      result[index & MASK] = item;
+    } else {
+      int subIndex = (index >>> level) & MASK;
+      result[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], index, item);
+    }
+    return result;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe paginated collection that readers page through as stable snapshots while writers
+ * keep modifying it.
+ *
+ * <p>The items are held in an immutable, structurally shared vector. Every modification publishes a
+ * new version atomically, so {@link #snapshot()} takes O(1) and never blocks, and a snapshot keeps
+ * returning the same pages no matter what is written afterwards. Writers never block readers;
+ * concurrent writers retry until their modification applies to the latest version.
+ *
+ * <p>Appending and replacing items are cheap. Removing items rebuilds the vector and costs O(n).
+ *
+ * @param <T> the type of the items
+ */
+public class SnapshotPaginator<T> {
+
+  /** The latest published version. */
+  private final AtomicReference<Snapshot<T>> current;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /**
+   * Constructs an empty SnapshotPaginator.
+   *
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public SnapshotPaginator(int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    this.pageSize = pageSize;
+    this.current =
+        new AtomicReference<>(new Snapshot<>(PersistentVector.<T>empty(), pageSize, 0));
+  }
+
+  /**
+   * Constructs a SnapshotPaginator holding the given items.
+   *
+   * @param items the initial items
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public SnapshotPaginator(Collection<? extends T> items, int pageSize) {
+    this(pageSize);
+    addAll(items);
+  }
+
+  /**
+   * Returns the latest version of the items. Taking a snapshot is O(1).
+   *
+   * @return an immutable snapshot
+   */
+  public Snapshot<T> snapshot() {
+    return current.get();
+  }
+
+  /**
+   * Retrieves a page of the latest version. Consecutive calls may see different versions; take a
+   * {@link #snapshot()} to page through a consistent view.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable list of items for the specified page, or an empty list if the page is
+   *     out of range
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public List<T> getPage(int pageNumber) {
+    return snapshot().getPage(pageNumber);
+  }
+
+  /**
+   * Appends an item.
+   *
+   * @param item the item to append
+   */
+  public void add(T item) {
+    update(vector -> vector.append(item));
+  }
+
+  /**
+   * Appends all given items as a single modification.
+   *
+   * @param items the items to append
+   */
+  public void addAll(Collection<? extends T> items) {
+    update(
+        vector -> {
+          PersistentVector<T> result = vector;
+          for (T item : items) {
+            result = result.append(item);
+          }
+          return result;
+        });
+  }
+
+  /**
+   * Replaces the item at the given index.
+   *
+   * @param index the index of the item
+   * @param item the new item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public void set(int index, T item) {
+    update(vector -> vector.set(index, item));
+  }
+
+  /**
+   * Removes the item at the given index.
+   *
+   * @param index the index of the item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public void remove(int index) {
+    update(vector -> vector.remove(index));
+  }
+
+  /**
+   * Removes the first occurrence of the given item.
+   *
+   * @param item the item to remove
+   * @return true if the item was removed
+   */
+  public boolean remove(T item) {
+    boolean[] removed = new boolean[1];
+    update(
+        vector -> {
+          removed[0] = false;
+          for (int i = 0; i < vector.size(); i++) {
+            if (Objects.equals(vector.get(i), item)) {
+              removed[0] = true;
+              return vector.remove(i);
+            }
+          }
+          return vector;
+        });
+    return removed[0];
+  }
+
+  /** Removes all items. */
+  public void clear() {
+    update(vector -> PersistentVector.empty());
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Applies a modification to the latest version and publishes the result, retrying if another
+   * writer published a version in the meantime.
+   *
+   * @param modification computes the new vector from the latest one
+   */
+  private void update(UnaryOperator<PersistentVector<T>> modification) {
+    while (true) {
+      Snapshot<T> snapshot = current.get();
+      PersistentVector<T> vector = modification.apply(snapshot.vector);
+      if (vector == snapshot.vector) {
+        return;
+      }
+      Snapshot<T> next = new Snapshot<>(vector, pageSize, snapshot.version + 1);
+      if (current.compareAndSet(snapshot, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * An immutable version of the items of a {@link SnapshotPaginator}.
+   *
+   * @param <T> the type of the items
+   */
+  public static final class Snapshot<T> {
+    private final PersistentVector<T> vector;
+    private final int pageSize;
+    private final long version;
+
+    private Snapshot(PersistentVector<T> vector, int pageSize, long version) {
+      this.vector = vector;
+      this.pageSize = pageSize;
+      this.version = version;
+    }
+
+    /**
+     * Retrieves the items for the specified page. The returned list is a view of the snapshot and
+     * does not copy the items.
+     *
+     * @param pageNumber the page number (zero-based index); must be non-negative
+     * @return an unmodifiable list of items for the specified page, or an empty list if the page is
+     *     out of range
+     * @throws IllegalArgumentException if pageNumber is negative
+     */
+    public List<T> getPage(int pageNumber) {
+      if (pageNumber < 0) {
+        throw new IllegalArgumentException("Page number must be non-negative.");
+      }
+      long fromIndex = (long) pageNumber * pageSize;
+      if (fromIndex >= vector.size()) {
+        return Collections.emptyList();
+      }
+      int toIndex = (int) Math.min(fromIndex + pageSize, vector.size());
+      return new Range<>(vector, (int) fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the total number of pages in this snapshot.
+     *
+     * @return the total number of pages
+     */
+    public int getTotalPages() {
+      return (int) Math.ceil((double) vector.size() / pageSize);
+    }
+
+    /**
+     * Returns the number of items in this snapshot.
+     *
+     * @return the number of items
+     */
+    public int size() {
+      return vector.size();
+    }
+
+    /**
+     * Returns the version of this snapshot, which increases by one with every modification.
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+      return version;
+    }
+  }
+
+  /** An unmodifiable view of a range of a vector. */
+  private static final class Range<T> extends AbstractList<T> implements RandomAccess {
+    private final PersistentVector<T> vector;
+    private final int fromIndex;
+    private final int size;
+
+    private Range(PersistentVector<T> vector, int fromIndex, int toIndex) {
+      this.vector = vector;
+      this.fromIndex = fromIndex;
+      this.size = toIndex - fromIndex;
+    }
+
+    @Override
+    public T get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return vector.get(fromIndex + index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,384 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A paginated view that keeps its items sorted by a comparator and restricted to those matching a
+ * set of filters, without sorting the whole dataset up front.
+ *
+ * <p>The items are split into a sorted prefix and an unsorted remainder, where every item of the
+ * prefix sorts before every item of the remainder. A page request that reaches beyond the prefix
+ * extends it by partial selection: the missing items are selected from the remainder in O(n) and
+ * only those are sorted. Showing page 0 of a leaderboard therefore costs O(n + k log k) instead of
+ * O(n log n), and later requests for pages within the prefix cost nothing.
+ *
+ * <p>The prefix is maintained incrementally: added items that sort into the prefix are inserted by
+ * binary search, items that sort after it go to the remainder. Items whose sort key changes must be
+ * re-scored through {@link #update(Object, Consumer)}.
+ *
+ * <p>The order of items that compare as equal is unspecified. This class is not thread-safe.
+ *
+ * @param <T> the type of the items
+ */
+public class SortedPaginator<T> {
+
+  /** The order of the items. */
+  private final Comparator<? super T> comparator;
+
+  /** The filter every item must match to be included. */
+  private final Predicate<? super T> filter;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The smallest items in sorted order. */
+  private final ArrayList<T> sorted = new ArrayList<>();
+
+  /** The remaining items in no particular order, all sorting after the prefix. */
+  private final ArrayList<T> remainder = new ArrayList<>();
+
+  private SortedPaginator(Builder<T> builder) {
+    this.comparator = builder.comparator;
+    this.filter = builder.filter;
+    this.pageSize = builder.pageSize;
+  }
+
+  /**
+   * Creates a builder for a view sorted by the given comparator.
+   *
+   * @param comparator the order of the items
+   * @return a new builder
+   * @throws IllegalArgumentException if comparator is null
+   */
+  public static <T> Builder<T> builder(Comparator<? super T> comparator) {
+    if (comparator == null) {
+      throw new IllegalArgumentException("Comparator must not be null.");
+    }
+    return new Builder<>(comparator);
+  }
+
+  /**
+   * Retrieves the items for the specified page, extending the sorted prefix if necessary.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable copy of the items for the specified page, or an empty list if the page
+   *     is out of range. A copy is returned since later page requests and lookups may extend the
+   *     sorted prefix, which would invalidate a view.
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public List<T> getPage(int pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    long fromIndex = (long) pageNumber * pageSize;
+    int size = size();
+    if (fromIndex >= size) {
+      return Collections.emptyList();
+    }
+    int toIndex = (int) Math.min(fromIndex + pageSize, size);
+    ensureSorted(toIndex);
+    return Collections.unmodifiableList(new ArrayList<>(sorted.subList((int) fromIndex, toIndex)));
+  }
+
+  /**
+   * Returns the total number of pages based on the number of matching items.
+   *
+   * @return the total number of pages
+   */
+  public int getTotalPages() {
+    return (int) Math.ceil((double) size() / pageSize);
+  }
+
+  /**
+   * Returns the position of an item in the sorted view by binary search. The item must still have
+   * the sort key it had when it was added. Items in the sorted prefix are found in O(log n); the
+   * first lookup of an item beyond the prefix sorts the remaining items.
+   *
+   * @param item the item to look up
+   * @return the zero-based position of the item, or -1 if it is not part of the view
+   */
+  public int positionOf(T item) {
+    int index = indexInSorted(item);
+    if (index < 0
+        && !remainder.isEmpty()
+        && (sorted.isEmpty() || comparator.compare(item, sorted.get(sorted.size() - 1)) >= 0)) {
+      // Items that sort after the prefix, or equal to its last item, may be in the remainder
+      ensureSorted(size());
+      index = indexInSorted(item);
+    }
+    return index;
+  }
+
+  /**
+   * Returns the number of the page holding an item, as by {@link #positionOf(Object)}.
+   *
+   * @param item the item to look up
+   * @return the zero-based page number, or -1 if the item is not part of the view
+   */
+  public int pageOf(T item) {
+    int position = positionOf(item);
+    return position < 0 ? -1 : position / pageSize;
+  }
+
+  /**
+   * Returns the number of items matching the filters.
+   *
+   * @return the number of items in the view
+   */
+  public int size() {
+    return sorted.size() + remainder.size();
+  }
+
+  /**
+   * Adds an item if it matches the filters.
+   *
+   * @param item the item to add
+   * @return true if the item matched the filters and was added
+   */
+  public boolean add(T item) {
+    if (!filter.test(item)) {
+      return false;
+    }
+    if (!sorted.isEmpty() && comparator.compare(item, sorted.get(sorted.size() - 1)) < 0) {
+      sorted.add(insertionPoint(item), item);
+    } else {
+      remainder.add(item);
+    }
+    return true;
+  }
+
+  /**
+   * Adds all items that match the filters.
+   *
+   * @param items the items to add
+   */
+  public void addAll(Collection<? extends T> items) {
+    for (T item : items) {
+      add(item);
+    }
+  }
+
+  /**
+   * Removes an item. The item must still have the sort key it had when it was added.
+   *
+   * @param item the item to remove
+   * @return true if the item was part of the view and was removed
+   */
+  public boolean remove(T item) {
+    int index = indexInSorted(item);
+    if (index >= 0) {
+      sorted.remove(index);
+      return true;
+    }
+    index = remainder.indexOf(item);
+    if (index >= 0) {
+      // The remainder is unordered, so the last item can fill the gap
+      T last = remainder.remove(remainder.size() - 1);
+      if (index < remainder.size()) {
+        remainder.set(index, last);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Re-scores an item: removes it under its current sort key, applies the mutation that changes
+   * its key, and adds it again if it still matches the filters.
+   *
+   * @param item the item to re-score
+   * @param mutation the change to apply to the item
+   * @return true if the item was part of the view before the update
+   */
+  public boolean update(T item, Consumer<? super T> mutation) {
+    boolean removed = remove(item);
+    mutation.accept(item);
+    add(item);
+    return removed;
+  }
+
+  /**
+   * Returns the maximum number of items per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Extends the sorted prefix until it holds at least the given number of items.
+   *
+   * @param count the number of items that must be sorted
+   */
+  private void ensureSorted(int count) {
+    int missing = count - sorted.size();
+    if (missing <= 0) {
+      return;
+    }
+    if (missing < remainder.size()) {
+      select(remainder, missing);
+    } else {
+      missing = remainder.size();
+    }
+    List<T> selected = remainder.subList(0, missing);
+    selected.sort(comparator);
+    sorted.addAll(selected);
+    selected.clear();
+  }
+
+  /**
+   * Partially reorders the list so that its first k items are the k smallest, in no particular
+   * order (quickselect with three-way partitioning, so runs of equal items stay linear).
+   *
+   * @param list the list to reorder
+   * @param k the number of smallest items to move to the front; must be less than the list size
+   */
+  private void select(List<T> list, int k) {
+    int left = 0;
+    int right = list.size() - 1;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (left < right) {
+      T pivot = list.get(left + random.nextInt(right - left + 1));
+      // Partition into [left, lt) < pivot, [lt, gt] == pivot, (gt, right] > pivot
+      int lt = left;
+      int gt = right;
+      int i = left;
+      while (i <= gt) {
+        int cmp = comparator.compare(list.get(i), pivot);
+        if (cmp < 0) {
+          Collections.swap(list, lt++, i++);
+        } else if (cmp > 0) {
+          Collections.swap(list, i, gt--);
+        } else {
+          i++;
+        }
+      }
+      if (k < lt) {
+        right = lt - 1;
+      } else if (k > gt + 1) {
+        left = gt + 1;
+      } else {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the index after the last item of the sorted prefix that does not sort after the given
+   * item.
+   */
+  private int insertionPoint(T item) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(sorted.get(mid), item) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the given item in the sorted prefix by binary search.
+   *
+   * @return the index of the item, or -1 if it is not part of the prefix
+   */
+  private int indexInSorted(T item) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(sorted.get(mid), item) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    // Items that compare as equal may be different objects, so scan the run of equal items
+    for (int i = low; i < sorted.size() && comparator.compare(sorted.get(i), item) == 0; i++) {
+      if (Objects.equals(sorted.get(i), item)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Builder for {@link SortedPaginator}.
+   *
+   * @param <T> the type of the items
+   */
+  public static final class Builder<T> {
+    private final Comparator<? super T> comparator;
+    private Predicate<? super T> filter = item -> true;
+    private int pageSize = 10;
+
+    private Builder(Comparator<? super T> comparator) {
+      this.comparator = comparator;
+    }
+
+    /**
+     * Adds a filter. Items must match all filters to be part of the view.
+     *
+     * @param predicate the filter to add
+     * @return this builder
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public Builder<T> filter(Predicate<? super T> predicate) {
+      if (predicate == null) {
+        throw new IllegalArgumentException("Predicate must not be null.");
+      }
+      Predicate<? super T> previous = filter;
+      this.filter = item -> previous.test(item) && predicate.test(item);
+      return this;
+    }
+
+    /**
+     * Sets the number of items per page, 10 by default.
+     *
+     * @param pageSize the number of items per page; must be greater than zero
+     * @return this builder
+     * @throws IllegalArgumentException if pageSize is less than or equal to zero
+     */
+    public Builder<T> pageSize(int pageSize) {
+      if (pageSize <= 0) {
+        throw new IllegalArgumentException("Page size must be greater than zero.");
+      }
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * Creates an empty SortedPaginator.
+     *
+     * @return a new SortedPaginator
+     */
+    public SortedPaginator<T> build() {
+      return new SortedPaginator<>(this);
+    }
+
+    /**
+     * Creates a SortedPaginator holding the given items that match the filters.
+     *
+     * @param items the initial items
+     * @return a new SortedPaginator
+     */
+    public SortedPaginator<T> build(Collection<? extends T> items) {
+      SortedPaginator<T> paginator = new SortedPaginator<>(this);
+      paginator.addAll(items);
+      return paginator;
+    }
+  }
+}
@@ -0,0 +1,407 @@
+package de.godcipher.gutil.pagination;
+
+import de.godcipher.gutil.concurrent.BackgroundExecutors;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * A paginator over a single-pass source such as an {@link Iterator}, {@link Stream} or {@link
+ * Spliterator}. Pages are read from the source only when requested, and at most a configurable
+ * number of pages is kept in memory.
+ *
+ * <p>Since the source cannot be rewound, pages that were evicted from the buffer can no longer be
+ * retrieved. Moving forward is always possible; skipped pages are read and discarded.
+ *
+ * <p>If a prefetch executor is given, the page after the most recently requested one is read on
+ * that executor while the caller is still working with the current page. Prefetching requires a
+ * buffer of at least two pages, so the current page is never evicted by its successor. {@link
+ * #prefetching(Stream, int, int)} prefetches on the shared {@link BackgroundExecutors} executor,
+ * which runs on virtual threads on Java 21.
+ *
+ * <p>This class is thread-safe. Reads from the source are serialized, while buffered pages can be
+ * retrieved while a page is being read.
+ */
+public class StreamPaginator<T> implements AutoCloseable {
+
+  /** The source of items; only accessed while holding {@link #sourceLock}. */
+  private final Iterator<? extends T> source;
+
+  /** The maximum number of items per page. */
+  private final int pageSize;
+
+  /** The maximum number of pages held in memory. */
+  private final int maxBufferedPages;
+
+  /** The executor the next page is prefetched on, or null if prefetching is disabled. */
+  private final Executor prefetchExecutor;
+
+  /** Action that releases the source, run once on {@link #close()}. */
+  private final Runnable onClose;
+
+  /** Serializes reads from the source. */
+  private final Object sourceLock = new Object();
+
+  /** The buffered pages, oldest first; guarded by {@code this}. */
+  private final ArrayDeque<List<T>> buffer = new ArrayDeque<>();
+
+  /** The page number of the oldest buffered page; guarded by {@code this}. */
+  private long firstBufferedPage;
+
+  /** Whether the source has no more items; guarded by {@code this}. */
+  private boolean exhausted;
+
+  /** Whether a prefetch is scheduled or running; guarded by {@code this}. */
+  private boolean prefetching;
+
+  /** Whether this paginator was closed; guarded by {@code this}. */
+  private boolean closed;
+
+  /** The failure of the last read from the source, if any; guarded by {@code this}. */
+  private RuntimeException failure;
+
+  /**
+   * Constructs a StreamPaginator over an iterator that buffers a single page and does not
+   * prefetch.
+   *
+   * @param source the iterator to read items from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @throws IllegalArgumentException if pageSize is less than or equal to zero
+   */
+  public StreamPaginator(Iterator<? extends T> source, int pageSize) {
+    this(source, pageSize, 1, null);
+  }
+
+  /**
+   * Constructs a StreamPaginator over an iterator.
+   *
+   * @param source the iterator to read items from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param maxBufferedPages the maximum number of pages kept in memory; must be greater than zero
+   * @param prefetchExecutor the executor to prefetch the next page on, or null to disable
+   *     prefetching
+   * @throws IllegalArgumentException if pageSize or maxBufferedPages is less than or equal to zero,
+   *     or if a prefetch executor is given with fewer than two buffered pages
+   */
+  public StreamPaginator(
+      Iterator<? extends T> source, int pageSize, int maxBufferedPages, Executor prefetchExecutor) {
+    this(source, pageSize, maxBufferedPages, prefetchExecutor, null);
+  }
+
+  private StreamPaginator(
+      Iterator<? extends T> source,
+      int pageSize,
+      int maxBufferedPages,
+      Executor prefetchExecutor,
+      Runnable onClose) {
+    if (source == null) {
+      throw new IllegalArgumentException("Source must not be null.");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+    if (maxBufferedPages <= 0) {
+      throw new IllegalArgumentException("Buffered pages must be greater than zero.");
+    }
+    if (prefetchExecutor != null && maxBufferedPages < 2) {
+      throw new IllegalArgumentException("Prefetching requires at least two buffered pages.");
+    }
+    this.source = source;
+    this.pageSize = pageSize;
+    this.maxBufferedPages = maxBufferedPages;
+    this.prefetchExecutor = prefetchExecutor;
+    this.onClose = onClose;
+  }
+
+  /**
+   * Creates a StreamPaginator over a stream. Closing the paginator closes the stream.
+   *
+   * @param stream the stream to read items from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param maxBufferedPages the maximum number of pages kept in memory; must be greater than zero
+   * @param prefetchExecutor the executor to prefetch the next page on, or null to disable
+   *     prefetching
+   * @return a new paginator over the stream
+   * @throws IllegalArgumentException if the arguments are invalid, see {@link
+   *     #StreamPaginator(Iterator, int, int, Executor)}
+   */
+  public static <T> StreamPaginator<T> of(
+      Stream<? extends T> stream, int pageSize, int maxBufferedPages, Executor prefetchExecutor) {
+    if (stream == null) {
+      throw new IllegalArgumentException("Source must not be null.");
+    }
+    return new StreamPaginator<>(
+        stream.iterator(), pageSize, maxBufferedPages, prefetchExecutor, stream::close);
+  }
+
+  /**
+   * Creates a StreamPaginator over a stream that prefetches on the shared background executor.
+   * Closing the paginator closes the stream.
+   *
+   * @param stream the stream to read items from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param maxBufferedPages the maximum number of pages kept in memory; must be at least two
+   * @return a new paginator over the stream
+   * @throws IllegalArgumentException if the arguments are invalid, see {@link
+   *     #StreamPaginator(Iterator, int, int, Executor)}
+   * @see BackgroundExecutors#shared()
+   */
+  public static <T> StreamPaginator<T> prefetching(
+      Stream<? extends T> stream, int pageSize, int maxBufferedPages) {
+    return of(stream, pageSize, maxBufferedPages, BackgroundExecutors.shared());
+  }
+
+  /**
+   * Creates a StreamPaginator over a spliterator.
+   *
+   * @param spliterator the spliterator to read items from
+   * @param pageSize the number of items per page; must be greater than zero
+   * @param maxBufferedPages the maximum number of pages kept in memory; must be greater than zero
+   * @param prefetchExecutor the executor to prefetch the next page on, or null to disable
+   *     prefetching
+   * @return a new paginator over the spliterator
+   * @throws IllegalArgumentException if the arguments are invalid, see {@link
+   *     #StreamPaginator(Iterator, int, int, Executor)}
+   */
+  public static <T> StreamPaginator<T> of(
+      Spliterator<? extends T> spliterator,
+      int pageSize,
+      int maxBufferedPages,
+      Executor prefetchExecutor) {
+    if (spliterator == null) {
+      throw new IllegalArgumentException("Source must not be null.");
+    }
+    return new StreamPaginator<>(
+        Spliterators.iterator(spliterator), pageSize, maxBufferedPages, prefetchExecutor);
+  }
+
+  /**
+   * Retrieves the items for the specified page, reading from the source as far as necessary.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable list of items for the specified page, or an empty list if the source
+   *     ends before that page
+   * @throws IllegalArgumentException if pageNumber is negative
+   * @throws IllegalStateException if the page was already evicted from the buffer, the paginator
+   *     was closed, or reading from the source failed
+   */
+  public List<T> getPage(long pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    List<T> page = bufferedPage(pageNumber);
+    if (page == null) {
+      loadUntil(pageNumber);
+      page = bufferedPage(pageNumber);
+    }
+    schedulePrefetch(pageNumber + 1);
+    return page != null ? page : Collections.<T>emptyList();
+  }
+
+  /**
+   * Returns the total number of pages, which is only known once the source is exhausted.
+   *
+   * @return the total number of pages, or an empty optional if the source was not read to its end
+   *     yet
+   */
+  public synchronized OptionalLong getTotalPages() {
+    return exhausted ? OptionalLong.of(loadedPages()) : OptionalLong.empty();
+  }
+
+  /**
+   * Returns whether the source was read to its end.
+   *
+   * @return true if all items were read from the source
+   */
+  public synchronized boolean isExhausted() {
+    return exhausted;
+  }
+
+  /**
+   * Returns the number of pages currently held in memory.
+   *
+   * @return the number of buffered pages
+   */
+  public synchronized int getBufferedPages() {
+    return buffer.size();
+  }
+
+  /** Closes the paginator, releasing the buffered pages and the underlying stream if any. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      buffer.clear();
+    }
+    if (onClose != null) {
+      onClose.run();
+    }
+  }
+
+  /**
+   * Returns the buffered page with the given number.
+   *
+   * @param pageNumber the page number
+   * @return the page, or null if it was not read yet or the source ended before it
+   * @throws IllegalStateException if the page was evicted, the paginator was closed, or reading
+   *     failed
+   */
+  private synchronized List<T> bufferedPage(long pageNumber) {
+    ensureUsable();
+    if (pageNumber < firstBufferedPage) {
+      throw new IllegalStateException("Page " + pageNumber + " was evicted from the buffer.");
+    }
+    long index = pageNumber - firstBufferedPage;
+    if (index < buffer.size()) {
+      int i = 0;
+      for (List<T> page : buffer) {
+        if (i++ == index) {
+          return page;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads pages from the source until the given page is buffered or the source is exhausted.
+   *
+   * @param pageNumber the page number to read up to
+   */
+  private void loadUntil(long pageNumber) {
+    synchronized (sourceLock) {
+      while (true) {
+        synchronized (this) {
+          ensureUsable();
+          if (exhausted || pageNumber < loadedPages()) {
+            return;
+          }
+        }
+        List<T> page = readPage();
+        boolean end = page.size() < pageSize || !hasMoreItems();
+        synchronized (this) {
+          if (closed) {
+            return;
+          }
+          exhausted = end;
+          if (!page.isEmpty()) {
+            buffer.addLast(Collections.unmodifiableList(page));
+            while (buffer.size() > maxBufferedPages) {
+              buffer.removeFirst();
+              firstBufferedPage++;
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the next page from the source. Must be called while holding the source lock.
+   *
+   * @return the items read, fewer than a page only if the source ended
+   */
+  private List<T> readPage() {
+    List<T> page = new ArrayList<>(pageSize);
+    try {
+      while (page.size() < pageSize && source.hasNext()) {
+        page.add(source.next());
+      }
+    } catch (RuntimeException e) {
+      throw fail(e);
+    }
+    return page;
+  }
+
+  /**
+   * Checks whether the source has more items. Must be called while holding the source lock.
+   *
+   * @return true if the source has more items
+   */
+  private boolean hasMoreItems() {
+    try {
+      return source.hasNext();
+    } catch (RuntimeException e) {
+      throw fail(e);
+    }
+  }
+
+  /**
+   * Records a failure of the source, so that later calls fail as well.
+   *
+   * @param cause the exception thrown by the source
+   * @return the exception to throw to the caller
+   */
+  private synchronized IllegalStateException fail(RuntimeException cause) {
+    failure = cause;
+    return new IllegalStateException("Reading from the source failed.", cause);
+  }
+
+  /**
+   * Schedules reading the given page on the prefetch executor, unless prefetching is disabled, the
+   * page is already buffered or another prefetch is pending.
+   *
+   * @param pageNumber the page number to prefetch
+   */
+  private void schedulePrefetch(long pageNumber) {
+    if (prefetchExecutor == null) {
+      return;
+    }
+    synchronized (this) {
+      if (closed || exhausted || prefetching || pageNumber < loadedPages()) {
+        return;
+      }
+      prefetching = true;
+    }
+    try {
+      prefetchExecutor.execute(
+          () -> {
+            try {
+              loadUntil(pageNumber);
+            } catch (RuntimeException ignored) {
+              // Recorded as failure and rethrown to the next caller of getPage
+            } finally {
+              synchronized (this) {
+                prefetching = false;
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      synchronized (this) {
+        prefetching = false;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of pages read from the source so far, including evicted pages. Must be
+   * called while holding the lock on {@code this}.
+   */
+  private long loadedPages() {
+    return firstBufferedPage + buffer.size();
+  }
+
+  /**
+   * Ensures the paginator is neither closed nor broken. Must be called while holding the lock on
+   * {@code this}.
+   */
+  private void ensureUsable() {
+    if (closed) {
+      throw new IllegalStateException("Paginator is closed.");
+    }
+    if (failure != null) {
+      throw new IllegalStateException("Reading from the source failed.", failure);
+    }
+  }
+}
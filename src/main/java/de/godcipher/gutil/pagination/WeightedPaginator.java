@@ -0,0 +1,379 @@
+package de.godcipher.gutil.pagination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * A paginator whose pages are limited by the total weight of their items instead of an item
+ * count, such as rendered lines, serialized bytes or inventory slots.
+ *
+ * <p>Pages are packed greedily: each page takes as many consecutive items as fit into the maximum
+ * weight, and an item heavier than the maximum gets a page of its own. The weights are kept in a
+ * prefix-sum index (a Fenwick tree), so the end of a page is found by a binary search in O(log n)
+ * rather than by summing up items. Page boundaries are cached and only those after a modified item
+ * are recomputed.
+ *
+ * <p>Appending and replacing items update the index in O(log n). Inserting or removing items
+ * anywhere but at the end shifts all following items and rebuilds the index in O(n). Items whose
+ * weight changes in place must be re-weighed through {@link #reweigh(int)}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <T> the type of the items
+ */
+public class WeightedPaginator<T> {
+
+  /** The weight of each item. */
+  private final ToLongFunction<? super T> weigher;
+
+  /** The maximum total weight of a page with more than one item. */
+  private final long maxWeight;
+
+  /** List of items to paginate through. */
+  private final ArrayList<T> items = new ArrayList<>();
+
+  /** The weight of each item, as of when it was added or re-weighed. */
+  private long[] weights = new long[16];
+
+  /** The Fenwick tree over the weights, 1-based. */
+  private long[] tree = new long[17];
+
+  /** The start index of each page computed so far, beginning with page 0. */
+  private int[] pageStarts = {0};
+
+  /** The number of valid entries in {@link #pageStarts}. */
+  private int computedPages = 1;
+
+  /** Whether the last computed page reaches the end of the items. */
+  private boolean complete;
+
+  /**
+   * Constructs an empty WeightedPaginator.
+   *
+   * @param weigher the function computing the weight of an item; must not return negative values
+   * @param maxWeight the maximum total weight per page; must be greater than zero
+   * @throws IllegalArgumentException if weigher is null or maxWeight is less than or equal to zero
+   */
+  public WeightedPaginator(ToLongFunction<? super T> weigher, long maxWeight) {
+    if (weigher == null) {
+      throw new IllegalArgumentException("Weigher must not be null.");
+    }
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("Max weight must be greater than zero.");
+    }
+    this.weigher = weigher;
+    this.maxWeight = maxWeight;
+  }
+
+  /**
+   * Constructs a WeightedPaginator holding the given items.
+   *
+   * @param items the initial items
+   * @param weigher the function computing the weight of an item; must not return negative values
+   * @param maxWeight the maximum total weight per page; must be greater than zero
+   * @throws IllegalArgumentException if weigher is null, maxWeight is less than or equal to zero,
+   *     or an item has a negative weight
+   */
+  public WeightedPaginator(
+      Collection<? extends T> items, ToLongFunction<? super T> weigher, long maxWeight) {
+    this(weigher, maxWeight);
+    this.items.addAll(items);
+    rebuild();
+  }
+
+  /**
+   * Retrieves the items for the specified page.
+   *
+   * @param pageNumber the page number (zero-based index); must be non-negative
+   * @return an unmodifiable view of the items for the specified page, or an empty list if the page
+   *     is out of range; the view is only valid until the paginator is modified
+   * @throws IllegalArgumentException if pageNumber is negative
+   */
+  public List<T> getPage(int pageNumber) {
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("Page number must be non-negative.");
+    }
+    // The end of a page is the start of the next one
+    computePages(pageNumber + 2L);
+    if (items.isEmpty() || pageNumber >= computedPages) {
+      return Collections.emptyList();
+    }
+    int fromIndex = pageStarts[pageNumber];
+    int toIndex = pageNumber + 1 < computedPages ? pageStarts[pageNumber + 1] : items.size();
+    return Collections.unmodifiableList(items.subList(fromIndex, toIndex));
+  }
+
+  /**
+   * Returns the total number of pages. The first call after a modification computes the
+   * boundaries of all pages after the modified item, each in O(log n).
+   *
+   * @return the total number of pages
+   */
+  public int getTotalPages() {
+    computePages(Long.MAX_VALUE);
+    return items.isEmpty() ? 0 : computedPages;
+  }
+
+  /**
+   * Returns the number of the page containing the item at the given index.
+   *
+   * @param index the index of the item
+   * @return the page number (zero-based index)
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int pageOf(int index) {
+    checkIndex(index);
+    while (!complete && pageStarts[computedPages - 1] <= index) {
+      computeNextPage();
+    }
+    int page = Arrays.binarySearch(pageStarts, 0, computedPages, index);
+    return page >= 0 ? page : -page - 2;
+  }
+
+  /**
+   * Returns the item at the given index.
+   *
+   * @param index the index of the item
+   * @return the item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public T get(int index) {
+    return items.get(index);
+  }
+
+  /**
+   * Appends an item in O(log n).
+   *
+   * @param item the item to add
+   * @throws IllegalArgumentException if the item has a negative weight
+   */
+  public void add(T item) {
+    long weight = weigh(item);
+    int index = items.size();
+    items.add(item);
+    ensureCapacity(index + 1);
+    weights[index] = weight;
+    // A new Fenwick node covers its own weight and the nodes below it in the same range
+    int node = index + 1;
+    long sum = weight;
+    for (int child = node - 1; child > node - (node & -node); child -= child & -child) {
+      sum += tree[child];
+    }
+    tree[node] = sum;
+    invalidateFrom(index);
+  }
+
+  /**
+   * Inserts an item at the given index. This rebuilds the index unless the item is appended.
+   *
+   * @param index the index to insert the item at
+   * @param item the item to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalArgumentException if the item has a negative weight
+   */
+  public void add(int index, T item) {
+    if (index == items.size()) {
+      add(item);
+      return;
+    }
+    weigh(item);
+    items.add(index, item);
+    rebuild();
+    invalidateFrom(index);
+  }
+
+  /**
+   * Appends all items.
+   *
+   * @param items the items to add
+   * @throws IllegalArgumentException if an item has a negative weight
+   */
+  public void addAll(Collection<? extends T> items) {
+    for (T item : items) {
+      add(item);
+    }
+  }
+
+  /**
+   * Replaces the item at the given index in O(log n).
+   *
+   * @param index the index of the item
+   * @param item the new item
+   * @return the replaced item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalArgumentException if the item has a negative weight
+   */
+  public T set(int index, T item) {
+    checkIndex(index);
+    long weight = weigh(item);
+    T previous = items.set(index, item);
+    updateWeight(index, weight);
+    return previous;
+  }
+
+  /**
+   * Re-weighs the item at the given index after its weight changed in place, in O(log n).
+   *
+   * @param index the index of the item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalArgumentException if the item now has a negative weight
+   */
+  public void reweigh(int index) {
+    checkIndex(index);
+    updateWeight(index, weigh(items.get(index)));
+  }
+
+  /**
+   * Removes the item at the given index. This rebuilds the index unless the last item is removed.
+   *
+   * @param index the index of the item
+   * @return the removed item
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public T remove(int index) {
+    checkIndex(index);
+    T removed = items.remove(index);
+    if (index == items.size()) {
+      // Fenwick nodes never cover later positions, so dropping the last one keeps the tree valid
+      tree[index + 1] = 0;
+      weights[index] = 0;
+    } else {
+      rebuild();
+    }
+    invalidateFrom(index);
+    return removed;
+  }
+
+  /**
+   * Returns the number of items.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * Returns the total weight of all items in O(log n).
+   *
+   * @return the total weight
+   */
+  public long getTotalWeight() {
+    return prefixSum(items.size());
+  }
+
+  /**
+   * Returns the maximum total weight per page.
+   *
+   * @return the maximum weight
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /** Computes page boundaries until the given number of pages is known or all items are covered. */
+  private void computePages(long pages) {
+    while (computedPages < pages && !complete) {
+      computeNextPage();
+    }
+  }
+
+  /** Computes the start of the page after the last computed one, or marks the pages complete. */
+  private void computeNextPage() {
+    int start = pageStarts[computedPages - 1];
+    long offset = prefixSum(start);
+    // Saturate, so that a maximum weight like Long.MAX_VALUE means unbounded pages
+    long limit = offset > Long.MAX_VALUE - maxWeight ? Long.MAX_VALUE : offset + maxWeight;
+    int end = Math.max(start + 1, upperBound(limit));
+    if (end >= items.size()) {
+      complete = true;
+      return;
+    }
+    if (computedPages == pageStarts.length) {
+      pageStarts = Arrays.copyOf(pageStarts, computedPages * 2);
+    }
+    pageStarts[computedPages++] = end;
+  }
+
+  /** Discards the page boundaries that may depend on the item at the given index. */
+  private void invalidateFrom(int index) {
+    // A page start depends on the weights of all items up to and including itself
+    int valid = Arrays.binarySearch(pageStarts, 0, computedPages, index);
+    computedPages = Math.max(1, valid >= 0 ? valid : -valid - 1);
+    complete = false;
+  }
+
+  private void updateWeight(int index, long weight) {
+    long delta = weight - weights[index];
+    weights[index] = weight;
+    for (int node = index + 1; node <= items.size(); node += node & -node) {
+      tree[node] += delta;
+    }
+    invalidateFrom(index);
+  }
+
+  /** Returns the sum of the weights of the first count items. */
+  private long prefixSum(int count) {
+    long sum = 0;
+    for (int node = count; node > 0; node -= node & -node) {
+      sum += tree[node];
+    }
+    return sum;
+  }
+
+  /** Returns the largest count of leading items whose total weight does not exceed the target. */
+  private int upperBound(long target) {
+    int position = 0;
+    long remaining = target;
+    for (int step = Integer.highestOneBit(Math.max(1, items.size())); step > 0; step >>= 1) {
+      int next = position + step;
+      if (next <= items.size() && tree[next] <= remaining) {
+        position = next;
+        remaining -= tree[next];
+      }
+    }
+    return position;
+  }
+
+  /** Recomputes all weights and the Fenwick tree in O(n). */
+  private void rebuild() {
+    int size = items.size();
+    ensureCapacity(size);
+    Arrays.fill(tree, 0);
+    for (int i = 0; i < size; i++) {
+      weights[i] = weigh(items.get(i));
+      int node = i + 1;
+      tree[node] += weights[i];
+      int parent = node + (node & -node);
+      if (parent <= size) {
+        tree[parent] += tree[node];
+      }
+    }
+  }
+
+  private void ensureCapacity(int size) {
+    if (size > weights.length) {
+      int capacity = Math.max(size, weights.length * 2);
+      weights = Arrays.copyOf(weights, capacity);
+      tree = Arrays.copyOf(tree, capacity + 1);
+    }
+  }
+
+  private long weigh(T item) {
+    long weight = weigher.applyAsLong(item);
+    if (weight < 0) {
+      throw new IllegalArgumentException("Weight must not be negative: " + item);
+    }
+    return weight;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= items.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + items.size());
+    }
+  }
+}
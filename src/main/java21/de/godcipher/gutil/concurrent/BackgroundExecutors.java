@@ -0,0 +1,44 @@
+package de.godcipher.gutil.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * BackgroundExecutors creates the executors gutil uses for background work such as prefetching.
+ *
+ * <p>This is the Java 21 implementation, which starts a virtual thread per task. Virtual threads
+ * are always daemon threads, so they never keep the JVM alive.
+ */
+public final class BackgroundExecutors {
+
+  private BackgroundExecutors() {}
+
+  /**
+   * Creates a new executor for background tasks. Threads of the executor never keep the JVM alive.
+   *
+   * @param name The name prefix for the threads of the executor.
+   * @return A new executor; the caller is responsible for shutting it down.
+   * @throws IllegalArgumentException if the name is null.
+   */
+  public static ExecutorService newExecutor(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("The name must not be null");
+    }
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+  }
+
+  /**
+   * Retrieves the executor shared by all gutil components that are not given one explicitly. The
+   * shared executor is created on first use and must not be shut down.
+   *
+   * @return The shared background executor.
+   */
+  public static ExecutorService shared() {
+    return SharedHolder.EXECUTOR;
+  }
+
+  /** Lazily initializes the shared executor on first access. */
+  private static final class SharedHolder {
+    private static final ExecutorService EXECUTOR = newExecutor("gutil-background");
+  }
+}
@@ -0,0 +1,143 @@
+package de.godcipher.gutil.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * FieldAccessor reads and writes the value of a configuration field.
+ *
+ * <p>This is the Java 21 implementation based on VarHandles. The access modes are adapted once to
+ * erased {@code Object} signatures, so each access is a single exact invocation without per-call
+ * type conversion. Final fields cannot be written through a VarHandle, so they fall back to core
+ * reflection like the Java 8 implementation.
+ */
+final class FieldAccessor {
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  private FieldAccessor(Field field, VarHandle handle) {
+    this.field = field;
+    this.getter = handle != null ? adapt(handle, VarHandle.AccessMode.GET, GETTER_TYPE) : null;
+    this.setter = handle != null ? adapt(handle, VarHandle.AccessMode.SET, SETTER_TYPE) : null;
+  }
+
+  /**
+   * Creates an accessor for the given field, making it accessible if necessary.
+   *
+   * @param field The field to access.
+   * @return A new FieldAccessor for the field.
+   */
+  static FieldAccessor of(Field field) {
+    field.setAccessible(true);
+    return new FieldAccessor(field, findVarHandle(field));
+  }
+
+  /**
+   * Looks up a writable VarHandle for the given field.
+   *
+   * @param field The field to look up.
+   * @return The VarHandle, or null if the field is final or cannot be looked up.
+   */
+  private static VarHandle findVarHandle(Field field) {
+    if (Modifier.isFinal(field.getModifiers())) {
+      return null;
+    }
+    try {
+      MethodHandles.Lookup lookup =
+          MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+      return lookup.unreflectVarHandle(field);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Adapts an access mode of the handle to the erased signature with a leading target argument.
+   * Handles of static fields take no target, so an ignored one is added for them.
+   *
+   * @param handle The VarHandle of the field.
+   * @param mode The access mode to adapt.
+   * @param type The erased signature to adapt to.
+   * @return The adapted MethodHandle.
+   */
+  private static MethodHandle adapt(VarHandle handle, VarHandle.AccessMode mode, MethodType type) {
+    MethodHandle method = handle.toMethodHandle(mode);
+    if (handle.coordinateTypes().isEmpty()) {
+      method = MethodHandles.dropArguments(method, 0, Object.class);
+    }
+    return method.asType(type);
+  }
+
+  /**
+   * Retrieves the name of the field.
+   *
+   * @return The name of the field.
+   */
+  String getName() {
+    return field.getName();
+  }
+
+  /**
+   * Retrieves the declared type of the field.
+   *
+   * @return The type of the field.
+   */
+  Class<?> getType() {
+    return field.getType();
+  }
+
+  /**
+   * Reads the value of the field.
+   *
+   * @param target The object to read the field from.
+   * @return The current value, boxed if the field is primitive.
+   * @throws IllegalAccessException if the field cannot be accessed.
+   */
+  Object get(Object target) throws IllegalAccessException {
+    if (getter == null) {
+      return field.get(target);
+    }
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Unable to read field: " + field.getName(), e);
+    }
+  }
+
+  /**
+   * Writes the value of the field.
+   *
+   * @param target The object to write the field on.
+   * @param value The new value, unboxed if the field is primitive.
+   * @throws IllegalAccessException if the field cannot be accessed.
+   */
+  void set(Object target, Object value) throws IllegalAccessException {
+    if (setter == null) {
+      field.set(target, value);
+      return;
+    }
+    try {
+      setter.invokeExact(target, value);
+    } catch (ClassCastException | NullPointerException e) {
+      throw new IllegalArgumentException(
+          "Cannot assign " + value + " to field " + field.getName(), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Unable to write field: " + field.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package de.godcipher.gutil.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream helpers shared by the storage implementations.
+ *
+ * <p>This is the Java 21 implementation, which lets the JDK size the buffer up front.
+ */
+final class IOUtil {
+
+  private IOUtil() {}
+
+  /**
+   * Reads the remaining content of a stream into a byte array.
+   *
+   * @param in The stream to read.
+   * @return The content of the stream.
+   * @throws IOException if the stream cannot be read.
+   */
+  static byte[] readFully(InputStream in) throws IOException {
+    return in.readAllBytes();
+  }
+}
@@ -0,0 +1,52 @@
+package de.godcipher.gutil.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures a burst of blocking background tasks, the workload prefetching produces. Run against
+ * the packaged jar to compare platform and virtual threads, see README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackgroundExecutorsBenchmark {
+
+  @Param({"100", "1000"})
+  private int tasks;
+
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    executor = BackgroundExecutors.newExecutor("benchmark");
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void blockingBurst() throws Exception {
+    List<Future<?>> futures = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                Thread.sleep(1);
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package de.godcipher.gutil.config;
+
+import de.godcipher.gutil.config.storage.InMemoryConfigStorage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures configuration field access and an in-memory save/reload round trip. Run against the
+ * packaged jar to compare the Java 8 and Java 21 implementations, see README.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationBenchmark {
+
+  private TestConfiguration config;
+  private FieldAccessor intAccessor;
+  private int counter;
+
+  @Setup
+  public void setUp() throws Exception {
+    config = new TestConfiguration();
+    config.setStorage(new InMemoryConfigStorage());
+    config.initialize();
+    intAccessor = FieldAccessor.of(TestConfiguration.class.getDeclaredField("testInt"));
+  }
+
+  @Benchmark
+  public Object fieldGet() throws IllegalAccessException {
+    return intAccessor.get(config);
+  }
+
+  @Benchmark
+  public void fieldSet() throws IllegalAccessException {
+    intAccessor.set(config, counter++);
+  }
+
+  @Benchmark
+  public void saveAndReload() {
+    config.saveConfiguration();
+    config.reloadConfig();
+  }
+}
@@ -0,0 +1,61 @@
+package de.godcipher.gutil.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorTest {
+
+  @Test
+  void testInstanceField() throws Exception {
+    FieldAccessor accessor = FieldAccessor.of(Fields.class.getDeclaredField("name"));
+    Fields fields = new Fields();
+
+    assertEquals("name", accessor.getName());
+    assertEquals(String.class, accessor.getType());
+    assertEquals("initial", accessor.get(fields));
+    accessor.set(fields, "changed");
+    assertEquals("changed", fields.name);
+  }
+
+  @Test
+  void testPrimitiveField() throws Exception {
+    FieldAccessor accessor = FieldAccessor.of(Fields.class.getDeclaredField("count"));
+    Fields fields = new Fields();
+
+    assertEquals(3, accessor.get(fields));
+    accessor.set(fields, 7);
+    assertEquals(7, fields.count);
+    assertThrows(IllegalArgumentException.class, () -> accessor.set(fields, "seven"));
+    assertThrows(IllegalArgumentException.class, () -> accessor.set(fields, null));
+  }
+
+  @Test
+  void testStaticField() throws Exception {
+    FieldAccessor accessor = FieldAccessor.of(Fields.class.getDeclaredField("shared"));
+
+    assertEquals(5, accessor.get(null));
+    accessor.set(null, 6);
+    assertEquals(6, Fields.shared);
+    assertEquals(6, accessor.get(new Fields()));
+    Fields.shared = 5;
+  }
+
+  @Test
+  void testFinalField() throws Exception {
+    FieldAccessor accessor = FieldAccessor.of(Fields.class.getDeclaredField("fixed"));
+    Fields fields = new Fields();
+
+    assertEquals(1.5, accessor.get(fields));
+    accessor.set(fields, 2.5);
+    assertEquals(2.5, accessor.get(fields));
+  }
+
+  @SuppressWarnings("unused")
+  private static final class Fields {
+    private static int shared = 5;
+    private final double fixed = Double.parseDouble("1.5");
+    private String name = "initial";
+    private int count = 3;
+  }
+}
@@ -0,0 +1,110 @@
+package de.godcipher.gutil.config.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.godcipher.gutil.config.BaseConfiguration;
+import de.godcipher.gutil.config.annotation.ConfigValue;
+import de.godcipher.gutil.config.annotation.Configuration;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigStorageTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testInMemoryStorageRoundTrip() throws Exception {
+    InMemoryConfigStorage storage = new InMemoryConfigStorage();
+    StorageConfig config = new StorageConfig();
+    config.setStorage(storage);
+    config.initialize();
+
+    assertTrue(storage.exists("storage-config.yml"), "Config should be created in memory.");
+    assertTrue(storage.lastModified("storage-config.yml") > 0);
+
+    config.value = "changed";
+    config.saveConfiguration();
+
+    StorageConfig reloaded = new StorageConfig();
+    reloaded.setStorage(storage);
+    reloaded.reloadConfig();
+    assertEquals("changed", reloaded.value);
+  }
+
+  @Test
+  void testInMemoryStorageMissingEntry() {
+    InMemoryConfigStorage storage = new InMemoryConfigStorage();
+    assertFalse(storage.exists("missing.yml"));
+    assertEquals(0L, storage.lastModified("missing.yml"));
+    assertThrows(IOException.class, () -> storage.read("missing.yml"));
+  }
+
+  @Test
+  void testFileStorageCreatesParentDirectories() throws Exception {
+    FileConfigStorage storage = new FileConfigStorage(tempDir);
+    try (OutputStream out = storage.write("nested/dir/config.yml")) {
+      out.write("key: 1".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertTrue(storage.exists("nested/dir/config.yml"));
+    assertTrue(storage.lastModified("nested/dir/config.yml") > 0);
+    assertEquals("1", load(storage, "nested/dir/config.yml").getProperty("key"));
+  }
+
+  @Test
+  void testClasspathStorageLoadsBundledDefaults() {
+    ClasspathConfigStorage storage =
+        new ClasspathConfigStorage(getClass().getClassLoader(), "defaults");
+    StorageConfig config = new StorageConfig();
+    config.setStorage(storage);
+    config.initialize();
+
+    assertEquals("bundledValue", config.value);
+    assertTrue(storage.isReadOnly());
+    assertThrows(IllegalStateException.class, config::saveConfiguration);
+  }
+
+  @Test
+  void testZipStorageReadsEntries() throws Exception {
+    Path archive = tempDir.resolve("configs.zip");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive))) {
+      out.putNextEntry(new ZipEntry("defaults/storage-config.yml"));
+      out.write("test-string: \"zippedValue\"".getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+
+    ZipConfigStorage storage = new ZipConfigStorage(archive, "defaults");
+    assertTrue(storage.exists("storage-config.yml"));
+    assertFalse(storage.exists("missing.yml"));
+    assertTrue(storage.lastModified("storage-config.yml") > 0);
+    assertThrows(IOException.class, () -> storage.write("storage-config.yml"));
+
+    StorageConfig config = new StorageConfig();
+    config.setStorage(storage);
+    config.initialize();
+    assertEquals("zippedValue", config.value);
+  }
+
+  private static Properties load(ConfigStorage storage, String name) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = storage.read(name)) {
+      properties.load(in);
+    }
+    return properties;
+  }
+
+  @Configuration(fileName = "storage-config.yml")
+  static class StorageConfig extends BaseConfiguration {
+    @ConfigValue(name = "test-string", description = "Test string configuration")
+    private String value = "defaultValue";
+  }
+}
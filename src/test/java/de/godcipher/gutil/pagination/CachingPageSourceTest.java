@@ -0,0 +1,152 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingPageSourceTest {
+
+  private List<Integer> items;
+  private AtomicInteger loads;
+  private PageSource<Integer> countingSource;
+
+  @BeforeEach
+  void setUp() {
+    items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    loads = new AtomicInteger();
+    PageSource<Integer> backing = PageSource.of(items);
+    countingSource =
+        new PageSource<Integer>() {
+          @Override
+          public CompletableFuture<List<Integer>> load(long offset, int limit) {
+            loads.incrementAndGet();
+            return backing.load(offset, limit);
+          }
+
+          @Override
+          public OptionalLong size() {
+            return backing.size();
+          }
+        };
+  }
+
+  @Test
+  void testRepeatedLoadsHitCache() {
+    CachingPageSource<Integer> cache = CachingPageSource.builder(countingSource).build();
+
+    assertEquals(Arrays.asList(0, 1, 2), cache.load(0, 3).join());
+    assertEquals(Arrays.asList(0, 1, 2), cache.load(0, 3).join());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testConcurrentLoadsAreDeduplicated() {
+    CompletableFuture<List<Integer>> pending = new CompletableFuture<>();
+    PageSource<Integer> slow =
+        (offset, limit) -> {
+          loads.incrementAndGet();
+          return pending;
+        };
+    CachingPageSource<Integer> cache = CachingPageSource.builder(slow).build();
+
+    CompletableFuture<List<Integer>> first = cache.load(0, 3);
+    CompletableFuture<List<Integer>> second = cache.load(0, 3);
+    assertEquals(1, loads.get());
+
+    pending.complete(Arrays.asList(7, 8, 9));
+    assertEquals(Arrays.asList(7, 8, 9), first.join());
+    assertEquals(Arrays.asList(7, 8, 9), second.join());
+  }
+
+  @Test
+  void testLeastRecentlyUsedIsEvicted() {
+    List<Long> evicted = new ArrayList<>();
+    CachingPageSource<Integer> cache =
+        CachingPageSource.builder(countingSource)
+            .maximumSize(2)
+            .removalListener((offset, page) -> evicted.add(offset))
+            .build();
+
+    cache.load(0, 10).join();
+    cache.load(10, 10).join();
+    cache.load(0, 10).join();
+    cache.load(20, 10).join();
+
+    assertEquals(Arrays.asList(10L), evicted);
+    assertEquals(2, cache.getCachedRanges());
+    cache.load(0, 10).join();
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void testWeightBound() {
+    CachingPageSource<Integer> cache =
+        CachingPageSource.builder(countingSource).maximumWeight(25, List::size).build();
+
+    cache.load(0, 10).join();
+    cache.load(10, 10).join();
+    cache.load(20, 10).join();
+
+    assertEquals(2, cache.getCachedRanges());
+  }
+
+  @Test
+  void testEntriesExpire() {
+    AtomicLong now = new AtomicLong();
+    CachingPageSource<Integer> cache =
+        CachingPageSource.builder(countingSource)
+            .expireAfterWrite(Duration.ofSeconds(1))
+            .clock(now::get)
+            .build();
+
+    cache.load(0, 3).join();
+    now.addAndGet(Duration.ofMillis(999).toNanos());
+    cache.load(0, 3).join();
+    assertEquals(1, loads.get());
+
+    now.addAndGet(Duration.ofMillis(1).toNanos());
+    cache.load(0, 3).join();
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testFailedLoadsAreNotCached() {
+    AtomicInteger attempts = new AtomicInteger();
+    PageSource<Integer> flaky =
+        (offset, limit) -> {
+          CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+          if (attempts.getAndIncrement() == 0) {
+            future.completeExceptionally(new IllegalStateException("unavailable"));
+          } else {
+            future.complete(Arrays.asList(1));
+          }
+          return future;
+        };
+    CachingPageSource<Integer> cache = CachingPageSource.builder(flaky).build();
+
+    assertThrows(CompletionException.class, () -> cache.load(0, 1).join());
+    assertEquals(Arrays.asList(1), cache.load(0, 1).join());
+  }
+
+  @Test
+  void testInvalidateAll() {
+    CachingPageSource<Integer> cache = CachingPageSource.builder(countingSource).build();
+    cache.load(0, 3).join();
+    cache.invalidateAll();
+    assertEquals(0, cache.getCachedRanges());
+    cache.load(0, 3).join();
+    assertEquals(2, loads.get());
+  }
+}
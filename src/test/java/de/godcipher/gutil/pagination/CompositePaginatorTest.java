@@ -0,0 +1,81 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompositePaginatorTest {
+
+  @Test
+  void testPagesCrossSourceBoundaries() {
+    CompositePaginator<String> paginator =
+        CompositePaginator.of(
+            3,
+            Arrays.asList("a", "b"),
+            Collections.<String>emptyList(),
+            Arrays.asList("c", "d", "e", "f"),
+            Arrays.asList("g"));
+
+    assertEquals(7, paginator.size());
+    assertEquals(3, paginator.getTotalPages());
+    assertEquals(Arrays.asList("a", "b", "c"), paginator.getPage(0));
+    assertEquals(Arrays.asList("d", "e", "f"), paginator.getPage(1));
+    assertEquals(Arrays.asList("g"), paginator.getPage(2));
+    assertTrue(paginator.getPage(3).isEmpty());
+    assertEquals("c", paginator.getPage(0).get(2));
+  }
+
+  @Test
+  void testPagesAreViews() {
+    List<Integer> online = new ArrayList<>(Arrays.asList(1, 2));
+    List<Integer> offline = new ArrayList<>(Arrays.asList(3, 4));
+    CompositePaginator<Integer> paginator = CompositePaginator.of(3, online, offline);
+
+    List<Integer> page = paginator.getPage(0);
+    online.set(0, 10);
+    assertEquals(Arrays.asList(10, 2, 3), page);
+    assertThrows(UnsupportedOperationException.class, () -> page.set(0, 1));
+
+    offline.addAll(Arrays.asList(5, 6, 7));
+    assertEquals(2, paginator.getTotalPages());
+    paginator.refresh();
+    assertEquals(3, paginator.getTotalPages());
+    assertEquals(Arrays.asList(4, 5, 6), paginator.getPage(1));
+  }
+
+  @Test
+  void testMatchesConcatenation() {
+    List<List<Integer>> sources = new ArrayList<>();
+    List<Integer> concatenated = new ArrayList<>();
+    for (int source = 0; source < 20; source++) {
+      List<Integer> items = new ArrayList<>();
+      for (int i = 0; i < source % 7; i++) {
+        items.add(concatenated.size());
+        concatenated.add(concatenated.size());
+      }
+      sources.add(items);
+    }
+    CompositePaginator<Integer> composite = new CompositePaginator<>(sources, 4);
+    ListPaginator<Integer> reference = new ListPaginator<>(concatenated, 4);
+
+    assertEquals(reference.getTotalPages(), composite.getTotalPages());
+    for (int page = 0; page <= reference.getTotalPages(); page++) {
+      assertEquals(reference.getPage(page), composite.getPage(page));
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new CompositePaginator<>(Collections.<List<String>>emptyList(), 0));
+    CompositePaginator<String> paginator = CompositePaginator.of(2);
+    assertEquals(0, paginator.getTotalPages());
+    assertTrue(paginator.getPage(0).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+  }
+}
@@ -0,0 +1,90 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class IndexedPaginatorTest {
+
+  @Test
+  void testLookupByKey() {
+    IndexedPaginator<String, Character> paginator =
+        new IndexedPaginator<>(Arrays.asList("alice", "bob", "carol", "dave"), s -> s.charAt(0), 3);
+
+    assertEquals(2, paginator.positionOf('c'));
+    assertEquals(0, paginator.pageOf('c'));
+    assertEquals(1, paginator.pageOf('d'));
+    assertEquals("bob", paginator.getByKey('b'));
+    assertEquals(-1, paginator.positionOf('z'));
+    assertEquals(-1, paginator.pageOf('z'));
+    assertNull(paginator.getByKey('z'));
+  }
+
+  @Test
+  void testIndexFollowsModifications() {
+    IndexedPaginator<String, Character> paginator =
+        new IndexedPaginator<>(Arrays.asList("alice", "bob", "carol"), s -> s.charAt(0), 2);
+
+    paginator.add(0, "zoe");
+    assertEquals(3, paginator.positionOf('c'));
+    assertEquals(0, paginator.positionOf('z'));
+
+    assertEquals("bob", paginator.remove(2));
+    assertEquals(-1, paginator.positionOf('b'));
+    assertEquals(2, paginator.positionOf('c'));
+
+    assertEquals("alice", paginator.set(1, "eve"));
+    assertEquals(-1, paginator.positionOf('a'));
+    assertEquals(1, paginator.positionOf('e'));
+
+    assertEquals("zoe", paginator.removeByKey('z'));
+    assertEquals(Arrays.asList("eve", "carol"), paginator.getPage(0));
+    assertEquals(1, paginator.getTotalPages());
+  }
+
+  @Test
+  void testMatchesIndexOfUnderRandomOperations() {
+    Random random = new Random(42);
+    List<Integer> reference = new ArrayList<>();
+    IndexedPaginator<Integer, Integer> paginator = new IndexedPaginator<>(Function.identity(), 5);
+    int next = 0;
+
+    for (int step = 0; step < 2_000; step++) {
+      int action = random.nextInt(10);
+      if (action < 3 || reference.isEmpty()) {
+        paginator.add(next);
+        reference.add(next++);
+      } else if (action < 5) {
+        int index = random.nextInt(reference.size() + 1);
+        paginator.add(index, next);
+        reference.add(index, next++);
+      } else if (action < 7) {
+        int index = random.nextInt(reference.size());
+        assertEquals(reference.remove(index), paginator.remove(index));
+      } else {
+        int key = random.nextInt(next + 1);
+        assertEquals(reference.indexOf(key), paginator.positionOf(key));
+      }
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new IndexedPaginator<String, String>(null, 5));
+    assertThrows(
+        IllegalArgumentException.class, () -> new IndexedPaginator<>(Function.identity(), 0));
+    IndexedPaginator<String, String> paginator =
+        new IndexedPaginator<>(Arrays.asList("a", "b"), Function.identity(), 5);
+    assertThrows(IllegalArgumentException.class, () -> paginator.add("a"));
+    assertThrows(IllegalArgumentException.class, () -> paginator.add(0, "b"));
+    assertThrows(IllegalArgumentException.class, () -> paginator.set(0, "b"));
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+    assertEquals("a", paginator.set(0, "a"));
+  }
+}
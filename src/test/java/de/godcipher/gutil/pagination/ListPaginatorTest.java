@@ -73,6 +73,13 @@ class ListPaginatorTest {
     assertTrue(page.isEmpty(), "Out of range pages should return an empty list");
   }
 
+  @Test
+  void testGetPage_OverflowingPageNumber() {
+    ListPaginator<String> largePaginator = new ListPaginator<>(items, Integer.MAX_VALUE / 2);
+    List<String> page = largePaginator.getPage(5);
+    assertTrue(page.isEmpty(), "Overflowing page should return an empty list");
+  }
+
   @Test
   void testGetPage_EmptyList() {
     ListPaginator<String> emptyPaginator = new ListPaginator<>(Collections.emptyList(), 3);
@@ -0,0 +1,211 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFilePaginatorTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testFixedLengthRecords() throws IOException {
+    Path file = directory.resolve("records.bin");
+    Files.write(file, "aaabbbcccddde".getBytes(StandardCharsets.US_ASCII));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.fixedLength(file, 3, 3)) {
+      assertEquals(4, paginator.getRecordCount());
+      assertEquals(2, paginator.getTotalPages());
+      assertEquals(Arrays.asList("aaa", "bbb", "ccc"), strings(paginator.getPage(0)));
+      assertEquals(Arrays.asList("ddd"), strings(paginator.getPage(1)));
+      assertTrue(paginator.getPage(2).isEmpty());
+
+      append(file, "ee");
+      paginator.refresh();
+      assertEquals(Arrays.asList("ddd", "eee"), strings(paginator.getPage(1)));
+    }
+  }
+
+  @Test
+  void testDelimitedRecords() throws IOException {
+    Path file = directory.resolve("records.log");
+    Files.write(file, "first\nsecond\r\n\nfourth\nfifth".getBytes(StandardCharsets.UTF_8));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, 2)) {
+      assertEquals(5, paginator.getRecordCount());
+      assertEquals(3, paginator.getTotalPages());
+      assertEquals(Arrays.asList("first", "second"), strings(paginator.getPage(0)));
+      assertEquals(Arrays.asList("", "fourth"), strings(paginator.getPage(1)));
+      assertEquals(Arrays.asList("fifth"), strings(paginator.getPage(2)));
+      assertTrue(paginator.getPage(3).isEmpty());
+    }
+    assertTrue(Files.exists(Paths.get(file + ".idx")));
+  }
+
+  @Test
+  void testIndexGrowsIncrementally() throws IOException {
+    Path file = directory.resolve("growing.log");
+    Files.write(file, "a\nb\nc".getBytes(StandardCharsets.UTF_8));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, 2)) {
+      assertEquals(Arrays.asList("c"), strings(paginator.getPage(1)));
+
+      append(file, "d\ne\n");
+      assertEquals(3, paginator.getRecordCount());
+      paginator.refresh();
+      assertEquals(4, paginator.getRecordCount());
+      assertEquals(Arrays.asList("cd", "e"), strings(paginator.getPage(1)));
+    }
+  }
+
+  @Test
+  void testIndexIsReusedAndRebuiltAfterTruncation() throws IOException {
+    Path file = directory.resolve("persisted.log");
+    Path index = directory.resolve("persisted.index");
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      content.append("line-").append(i).append('\n');
+    }
+    Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 100)) {
+      assertEquals(100, paginator.getTotalPages());
+    }
+    long indexSize = Files.size(index);
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 100)) {
+      assertEquals(indexSize, Files.size(index));
+      List<String> page = strings(paginator.getPage(57));
+      assertEquals(100, page.size());
+      assertEquals("line-5700", page.get(0));
+      assertEquals("line-5799", page.get(99));
+    }
+
+    Files.write(file, "x\ny\n".getBytes(StandardCharsets.UTF_8));
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 100)) {
+      assertEquals(2, paginator.getRecordCount());
+      assertEquals(Arrays.asList("x", "y"), strings(paginator.getPage(0)));
+    }
+  }
+
+  @Test
+  void testIndexIsRebuiltAfterReplacement() throws IOException {
+    Path file = directory.resolve("replaced.log");
+    Path index = directory.resolve("replaced.index");
+    Files.write(file, "aa\nbb\ncc\n".getBytes(StandardCharsets.UTF_8));
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 10)) {
+      assertEquals(3, paginator.getRecordCount());
+    }
+
+    Files.write(file, "a\nbbbb\nc\n".getBytes(StandardCharsets.UTF_8));
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 10)) {
+      assertEquals(Arrays.asList("a", "bbbb", "c"), strings(paginator.getPage(0)));
+    }
+
+    Files.write(file, "x\ny\nzzzzz\nw\n".getBytes(StandardCharsets.UTF_8));
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 10)) {
+      assertEquals(Arrays.asList("x", "y", "zzzzz", "w"), strings(paginator.getPage(0)));
+
+      Files.write(file, "one\ntwo\nthree\nfour\n".getBytes(StandardCharsets.UTF_8));
+      paginator.refresh();
+      assertEquals(Arrays.asList("one", "two", "three", "four"), strings(paginator.getPage(0)));
+    }
+  }
+
+  @Test
+  void testIndexOfOlderFormatIsRebuilt() throws IOException {
+    Path file = directory.resolve("legacy.log");
+    Path index = directory.resolve("legacy.index");
+    Files.write(file, "a\nb\n".getBytes(StandardCharsets.UTF_8));
+    // Header of two longs (covered bytes, records) followed by the record offsets
+    ByteBuffer legacy = ByteBuffer.allocate(4 * Long.BYTES);
+    legacy.putLong(4).putLong(2).putLong(0).putLong(2);
+    Files.write(index, legacy.array());
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, index, 10)) {
+      assertEquals(Arrays.asList("a", "b"), strings(paginator.getPage(0)));
+    }
+  }
+
+  @Test
+  void testPagesAreSlicedFromWindows() throws IOException {
+    Path file = directory.resolve("windows.bin");
+    Files.write(file, "aaaabbbbccccddddeeeeff".getBytes(StandardCharsets.US_ASCII));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.fixedLength(file, 4, 2)) {
+      paginator.setWindowBytes(12);
+      assertEquals(Arrays.asList("aaaa", "bbbb"), strings(paginator.getPage(0)));
+      // Crosses the boundary between the first and the second window
+      assertEquals(Arrays.asList("cccc", "dddd"), strings(paginator.getPage(1)));
+      // Maps the second window short, as the file ends within it
+      assertEquals(Arrays.asList("eeee"), strings(paginator.getPage(2)));
+
+      append(file, "ffgggg");
+      paginator.refresh();
+      assertEquals(Arrays.asList("eeee", "ffff"), strings(paginator.getPage(2)));
+      assertEquals(Arrays.asList("gggg"), strings(paginator.getPage(3)));
+
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(8);
+      }
+      paginator.refresh();
+      assertEquals(1, paginator.getTotalPages());
+      assertEquals(Arrays.asList("aaaa", "bbbb"), strings(paginator.getPage(0)));
+    }
+  }
+
+  @Test
+  void testRecordsAreReadOnlyViews() throws IOException {
+    Path file = directory.resolve("views.log");
+    Files.write(file, "one\ntwo\n".getBytes(StandardCharsets.UTF_8));
+
+    try (MappedFilePaginator paginator = MappedFilePaginator.delimited(file, 10)) {
+      List<ByteBuffer> page = paginator.getPage(0);
+      assertTrue(page.get(0).isReadOnly());
+      assertEquals(3, page.get(1).remaining());
+      assertThrows(UnsupportedOperationException.class, () -> page.remove(0));
+    }
+  }
+
+  @Test
+  void testInvalidArguments() throws IOException {
+    Path file = directory.resolve("empty.bin");
+    Files.createFile(file);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> MappedFilePaginator.fixedLength(file, 0, 10));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MappedFilePaginator.fixedLength(file, Integer.MAX_VALUE, 2));
+    assertThrows(IllegalArgumentException.class, () -> MappedFilePaginator.delimited(file, 0));
+    assertThrows(
+        IllegalStateException.class,
+        () -> MappedFilePaginator.delimited(directory.resolve("missing.log"), 10));
+    try (MappedFilePaginator paginator = MappedFilePaginator.fixedLength(file, 4, 10)) {
+      assertEquals(0, paginator.getTotalPages());
+      assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+    }
+  }
+
+  private static void append(Path file, String text) throws IOException {
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+  }
+
+  private static List<String> strings(List<ByteBuffer> records) {
+    return records.stream()
+        .map(record -> StandardCharsets.UTF_8.decode(record.duplicate()).toString())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,181 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class MergingPaginatorTest {
+
+  @Test
+  void testMergesShardsInOrder() {
+    MergingPaginator<Integer> paginator =
+        MergingPaginator.ofLists(
+            Arrays.asList(
+                Arrays.asList(1, 4, 7, 10),
+                Arrays.asList(2, 5, 8),
+                Collections.<Integer>emptyList(),
+                Arrays.asList(3, 6, 9)),
+            Comparator.naturalOrder(),
+            4);
+
+    assertEquals(Arrays.asList(1, 2, 3, 4), paginator.getPage(0).join());
+    assertEquals(Arrays.asList(5, 6, 7, 8), paginator.getPage(1).join());
+    assertEquals(Arrays.asList(9, 10), paginator.getPage(2).join());
+    assertTrue(paginator.getPage(3).join().isEmpty());
+    assertEquals(Arrays.asList(5, 6, 7, 8), paginator.getPage(1).join());
+    assertEquals(OptionalLong.of(3), paginator.getTotalPages());
+  }
+
+  @Test
+  void testLoadsOnlyWhatPagesNeed() {
+    List<RecordingSource> shards = new ArrayList<>();
+    for (int shard = 0; shard < 4; shard++) {
+      List<Integer> items = new ArrayList<>();
+      for (int i = 0; i < 1_000; i++) {
+        items.add(i * 4 + shard);
+      }
+      shards.add(new RecordingSource(items));
+    }
+    MergingPaginator<Integer> paginator =
+        new MergingPaginator<>(shards, Comparator.naturalOrder(), 10);
+
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), paginator.getPage(0).join());
+    for (RecordingSource shard : shards) {
+      assertEquals(Collections.singletonList(0L), shard.offsets);
+    }
+
+    assertEquals(10, paginator.getPage(1).join().get(0));
+    assertEquals(20, paginator.getPage(2).join().get(0));
+    for (RecordingSource shard : shards) {
+      assertEquals(Collections.singletonList(0L), shard.offsets);
+    }
+
+    // The merge continues from the checkpoint of page 2 and reads 25 items of each shard
+    assertEquals(90, paginator.getPage(9).join().get(0));
+    for (RecordingSource shard : shards) {
+      assertEquals(Arrays.asList(0L, 10L, 20L), shard.offsets);
+    }
+  }
+
+  @Test
+  void testPageEndingAtBatchBoundaryLoadsOneBatchPerShard() {
+    RecordingSource low = new RecordingSource(Arrays.asList(1, 2, 3, 4));
+    RecordingSource high = new RecordingSource(Arrays.asList(10, 20));
+    MergingPaginator<Integer> paginator =
+        new MergingPaginator<>(Arrays.asList(low, high), Comparator.naturalOrder(), 2);
+
+    assertEquals(Arrays.asList(1, 2), paginator.getPage(0).join());
+    assertEquals(Collections.singletonList(0L), low.offsets);
+    assertEquals(Collections.singletonList(0L), high.offsets);
+
+    assertEquals(Arrays.asList(3, 4), paginator.getPage(1).join());
+    assertEquals(Arrays.asList(0L, 2L), low.offsets);
+    assertEquals(Collections.singletonList(0L), high.offsets);
+  }
+
+  @Test
+  void testMatchesSortedConcatenationWithAsyncShards() {
+    Random random = new Random(42);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<PageSource<Integer>> shards = new ArrayList<>();
+      List<Integer> all = new ArrayList<>();
+      for (int shard = 0; shard < 5; shard++) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = random.nextInt(40); i > 0; i--) {
+          items.add(random.nextInt(100));
+        }
+        Collections.sort(items);
+        all.addAll(items);
+        PageSource<Integer> source = PageSource.of(items);
+        shards.add(
+            (offset, limit) ->
+                CompletableFuture.supplyAsync(() -> source.load(offset, limit).join(), executor));
+      }
+      List<Integer> expected = all.stream().sorted().collect(Collectors.toList());
+      MergingPaginator<Integer> paginator =
+          new MergingPaginator<>(shards, Comparator.naturalOrder(), 7);
+
+      List<CompletableFuture<List<Integer>>> pages = new ArrayList<>();
+      for (int page = 0; page * 7 < expected.size() + 7; page++) {
+        pages.add(paginator.getPage(page));
+      }
+      List<Integer> merged = new ArrayList<>();
+      for (CompletableFuture<List<Integer>> page : pages) {
+        merged.addAll(page.join());
+      }
+      assertEquals(expected, merged);
+      assertEquals(expected.subList(14, 21), paginator.getPage(2).join());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testFailedLoadFailsPageOnly() {
+    boolean[] fail = {true};
+    PageSource<Integer> flaky =
+        (offset, limit) -> {
+          if (fail[0]) {
+            CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IllegalStateException("unavailable"));
+            return failed;
+          }
+          return PageSource.of(Arrays.asList(2, 4)).load(offset, limit);
+        };
+    MergingPaginator<Integer> paginator =
+        new MergingPaginator<>(
+            Arrays.asList(PageSource.of(Arrays.asList(1, 3)), flaky), Comparator.naturalOrder(), 3);
+
+    assertThrows(CompletionException.class, () -> paginator.getPage(0).join());
+    fail[0] = false;
+    assertEquals(Arrays.asList(1, 2, 3), paginator.getPage(0).join());
+    assertEquals(Arrays.asList(4), paginator.getPage(1).join());
+    assertEquals(OptionalLong.empty(), paginator.getTotalPages());
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MergingPaginator<Integer>(null, Comparator.naturalOrder(), 5));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MergingPaginator.<Integer>ofLists(Collections.emptyList(), null, 5));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MergingPaginator.<Integer>ofLists(Collections.emptyList(), Integer::compare, 0));
+    MergingPaginator<Integer> paginator =
+        MergingPaginator.ofLists(Collections.emptyList(), Integer::compare, 5);
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+    assertTrue(paginator.getPage(0).join().isEmpty());
+  }
+
+  /** A synchronous source recording the offsets it was asked to load. */
+  private static final class RecordingSource implements PageSource<Integer> {
+    private final PageSource<Integer> delegate;
+    private final List<Long> offsets = new ArrayList<>();
+
+    private RecordingSource(List<Integer> items) {
+      this.delegate = PageSource.of(items);
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> load(long offset, int limit) {
+      offsets.add(offset);
+      return delegate.load(offset, limit);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+  private List<String> items;
+
+  @BeforeEach
+  void setUp() {
+    items = new LinkedList<>(Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H", "I", "J"));
+  }
+
+  @Test
+  void testNextWalksAllPages() {
+    PageCursor<String> cursor = new ListPaginator<>(items, 3).cursor();
+
+    assertEquals(Arrays.asList("A", "B", "C"), cursor.next());
+    assertEquals(Arrays.asList("D", "E", "F"), cursor.next());
+    assertEquals(Arrays.asList("G", "H", "I"), cursor.next());
+    assertEquals(Arrays.asList("J"), cursor.next());
+    assertFalse(cursor.hasNext());
+    assertEquals(10, cursor.getOffset());
+    assertThrows(NoSuchElementException.class, cursor::next);
+  }
+
+  @Test
+  void testPreviousStepsBackOverPartialLastPage() {
+    PageCursor<String> cursor = new PageCursor<>(items, 3, 3);
+
+    assertEquals(Arrays.asList("J"), cursor.next());
+    assertEquals(Arrays.asList("J"), cursor.previous());
+    assertEquals(Arrays.asList("G", "H", "I"), cursor.previous());
+    assertEquals(6, cursor.getOffset());
+    assertEquals(2, cursor.getPageNumber());
+  }
+
+  @Test
+  void testPreviousAtStartThrows() {
+    PageCursor<String> cursor = new PageCursor<>(items, 3);
+    assertFalse(cursor.hasPrevious());
+    assertThrows(NoSuchElementException.class, cursor::previous);
+  }
+
+  @Test
+  void testLargePageNumberDoesNotOverflow() {
+    PageCursor<String> cursor = new PageCursor<>(items, 3, Long.MAX_VALUE / 2);
+    assertFalse(cursor.hasNext());
+    assertEquals(10, cursor.getOffset());
+  }
+
+  @Test
+  void testPagesAreUnmodifiable() {
+    List<String> page = new PageCursor<>(items, 3).next();
+    assertThrows(UnsupportedOperationException.class, () -> page.add("Z"));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PageCursor<>(items, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PageCursor<>(items, 3, -1));
+  }
+}
@@ -0,0 +1,235 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PagePublisherTest {
+
+  @Test
+  void testPagesAreLoadedOnDemand() {
+    ManualSource source = new ManualSource(range(10));
+    PagePublisher<Integer> publisher = new PagePublisher<>(source, 3, 4);
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+
+    assertTrue(source.loads.isEmpty());
+    subscriber.subscription.request(2);
+    assertEquals(2, source.loads.size());
+
+    source.completeAll();
+    assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5)), subscriber.pages);
+    assertFalse(subscriber.completed);
+
+    subscriber.subscription.request(5);
+    // The size of the source is unknown, so pages are loaded up to the in-flight limit
+    assertEquals(6, source.loads.size());
+    source.completeAll();
+    assertEquals(Arrays.asList(9), subscriber.pages.get(3));
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+  }
+
+  @Test
+  void testInFlightPagesAreBounded() {
+    ManualSource source = new ManualSource(range(100));
+    PagePublisher<Integer> publisher = new PagePublisher<>(source, 10, 2);
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertEquals(2, source.loads.size());
+
+    // Completing the second page first must not deliver it before the first one
+    source.loads.get(1).complete();
+    assertTrue(subscriber.pages.isEmpty());
+    assertEquals(2, source.loads.size());
+
+    source.loads.get(0).complete();
+    assertEquals(2, subscriber.pages.size());
+    assertEquals(4, source.loads.size());
+    while (!subscriber.completed) {
+      source.completeAll();
+    }
+    assertEquals(10, subscriber.pages.size());
+    // At most the in-flight limit of pages is loaded beyond the end
+    assertTrue(source.loads.size() <= 12);
+  }
+
+  @Test
+  void testPaginatorWithUnknownSizeCompletesAfterShortPage() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Integer> items = range(95);
+      PageSource<Integer> list = PageSource.of(items);
+      PageSource<Integer> async =
+          (offset, limit) ->
+              CompletableFuture.supplyAsync(() -> list.load(offset, limit).join(), executor);
+      PagePublisher<Integer> publisher = PagePublisher.of(new PageSourcePaginator<>(async, 10), 3);
+      RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+      subscriber.requestOnNext = true;
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(1);
+
+      assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+      assertNull(subscriber.error);
+      List<Integer> received =
+          subscriber.pages.stream().flatMap(List::stream).collect(Collectors.toList());
+      assertEquals(items, received);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testListPaginator() {
+    PagePublisher<String> publisher =
+        PagePublisher.of(new ListPaginator<>(Arrays.asList("a", "b", "c", "d"), 2), 1);
+    RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+    assertEquals(Collections.singletonList(Arrays.asList("a", "b")), subscriber.pages);
+    subscriber.subscription.request(1);
+    assertEquals(Arrays.asList("c", "d"), subscriber.pages.get(1));
+    assertTrue(subscriber.completed);
+
+    RecordingSubscriber<String> empty = new RecordingSubscriber<>();
+    PagePublisher.of(new ListPaginator<>(Collections.<String>emptyList(), 2), 1).subscribe(empty);
+    assertTrue(empty.completed);
+  }
+
+  @Test
+  void testCancelStopsLoading() {
+    ManualSource source = new ManualSource(range(100));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new PagePublisher<>(source, 10, 2).subscribe(subscriber);
+
+    subscriber.subscription.request(5);
+    subscriber.subscription.cancel();
+    source.completeAll();
+    subscriber.subscription.request(5);
+    assertEquals(2, source.loads.size());
+    assertTrue(subscriber.pages.isEmpty());
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  void testErrors() {
+    RecordingSubscriber<Integer> invalid = new RecordingSubscriber<>();
+    new PagePublisher<>(PageSource.of(Arrays.asList(1, 2)), 1, 1).subscribe(invalid);
+    invalid.subscription.request(0);
+    assertTrue(invalid.error instanceof IllegalArgumentException);
+
+    PageSource<Integer> failing =
+        (offset, limit) -> {
+          CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+          failed.completeExceptionally(new IllegalStateException("unavailable"));
+          return failed;
+        };
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new PagePublisher<>(failing, 5, 1).subscribe(subscriber);
+    subscriber.subscription.request(1);
+    assertTrue(subscriber.error instanceof IllegalStateException);
+
+    assertThrows(
+        NullPointerException.class,
+        () -> new PagePublisher<>(PageSource.of(Arrays.asList(1)), 1, 1).subscribe(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PagePublisher<>(PageSource.of(Arrays.asList(1)), 1, 0));
+  }
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  /** A source of unknown size whose loads are completed by the test. */
+  private static final class ManualSource implements PageSource<Integer> {
+    private final PageSource<Integer> delegate;
+    private final List<PendingLoad> loads = new ArrayList<>();
+
+    private ManualSource(List<Integer> items) {
+      this.delegate = PageSource.of(items);
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> load(long offset, int limit) {
+      PendingLoad load = new PendingLoad(delegate.load(offset, limit).join());
+      loads.add(load);
+      return load.future;
+    }
+
+    @Override
+    public OptionalLong size() {
+      return OptionalLong.empty();
+    }
+
+    private void completeAll() {
+      for (PendingLoad load : new ArrayList<>(loads)) {
+        load.complete();
+      }
+    }
+  }
+
+  private static final class PendingLoad {
+    private final List<Integer> items;
+    private final CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+
+    private PendingLoad(List<Integer> items) {
+      this.items = items;
+    }
+
+    private void complete() {
+      future.complete(items);
+    }
+  }
+
+  private static final class RecordingSubscriber<T> implements Subscriber<List<T>> {
+    private final List<List<T>> pages = new CopyOnWriteArrayList<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable error;
+    private boolean requestOnNext;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(List<T> page) {
+      pages.add(page);
+      if (requestOnNext) {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      this.error = error;
+      terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+      terminated.countDown();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PageSourcePaginatorTest {
+
+  private List<Integer> items;
+  private AtomicInteger loads;
+  private PageSource<Integer> countingSource;
+
+  @BeforeEach
+  void setUp() {
+    items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    loads = new AtomicInteger();
+    PageSource<Integer> backing = PageSource.of(items);
+    countingSource =
+        new PageSource<Integer>() {
+          @Override
+          public CompletableFuture<List<Integer>> load(long offset, int limit) {
+            loads.incrementAndGet();
+            return backing.load(offset, limit);
+          }
+
+          @Override
+          public OptionalLong size() {
+            return backing.size();
+          }
+        };
+  }
+
+  @Test
+  void testPrefetchesNeighbours() {
+    CachingPageSource<Integer> cache = CachingPageSource.builder(countingSource).build();
+    PageSourcePaginator<Integer> paginator = new PageSourcePaginator<>(cache, 10, 1);
+
+    assertEquals(
+        IntStream.range(50, 60).boxed().collect(Collectors.toList()), paginator.getPage(5).join());
+    assertEquals(3, loads.get(), "Pages 4 and 6 should be loaded speculatively");
+
+    paginator.getPage(6).join();
+    assertEquals(4, loads.get(), "Only page 7 should be loaded");
+    assertEquals(10, paginator.getTotalPages().getAsLong());
+  }
+
+  @Test
+  void testOutOfRangePage() {
+    PageSourcePaginator<Integer> paginator = new PageSourcePaginator<>(PageSource.of(items), 10);
+    assertTrue(paginator.getPage(10).join().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+  }
+}
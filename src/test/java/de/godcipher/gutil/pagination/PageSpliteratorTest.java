@@ -0,0 +1,116 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PageSpliteratorTest {
+
+  private final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+  @Test
+  void testSplitsOnPageBoundaries() {
+    PageSpliterator<Integer> spliterator = new PageSpliterator<>(items, 10);
+    assertEquals(10, spliterator.estimateSize());
+
+    Spliterator<List<Integer>> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(5, prefix.estimateSize());
+    assertEquals(5, spliterator.estimateSize());
+
+    List<List<Integer>> pages = new ArrayList<>();
+    prefix.forEachRemaining(pages::add);
+    assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), pages.get(0));
+    assertEquals(IntStream.range(40, 50).boxed().collect(Collectors.toList()), pages.get(4));
+  }
+
+  @Test
+  void testPagesStreamMatchesGetPage() {
+    ListPaginator<Integer> paginator = new ListPaginator<>(items, 7);
+    List<List<Integer>> pages = paginator.pages().parallel().collect(Collectors.toList());
+
+    assertEquals(paginator.getTotalPages(), pages.size());
+    for (int i = 0; i < pages.size(); i++) {
+      assertEquals(paginator.getPage(i), pages.get(i));
+    }
+  }
+
+  @Test
+  void testForEachPageParallelVisitsEveryPageOnce() {
+    ListPaginator<Integer> paginator = new ListPaginator<>(items, 3);
+    for (int parallelism : new int[] {1, 3}) {
+      AtomicInteger sum = new AtomicInteger();
+      List<Integer> firstItems = Collections.synchronizedList(new ArrayList<>());
+      paginator.forEachPageParallel(
+          page -> {
+            firstItems.add(page.get(0));
+            page.forEach(sum::addAndGet);
+          },
+          parallelism);
+
+      assertEquals(4950, sum.get());
+      assertEquals(34, firstItems.size());
+      assertEquals(34, firstItems.stream().distinct().count(), "Every page should be visited once");
+    }
+  }
+
+  @Test
+  void testForEachPageParallelOnGivenPool() {
+    ListPaginator<Integer> paginator = new ListPaginator<>(items, 1);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      AtomicInteger sum = new AtomicInteger();
+      Set<Thread> threads = ConcurrentHashMap.newKeySet();
+      List<Integer> firstItems = Collections.synchronizedList(new ArrayList<>());
+      paginator.forEachPageParallel(
+          page -> {
+            firstItems.add(page.get(0));
+            threads.add(Thread.currentThread());
+            page.forEach(sum::addAndGet);
+          },
+          pool);
+
+      assertEquals(4950, sum.get());
+      assertEquals(100, firstItems.stream().distinct().count());
+      assertTrue(threads.size() <= 3, "Only the pool and the caller should process pages");
+      assertFalse(pool.isShutdown());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testEmptyList() {
+    ListPaginator<Integer> paginator = new ListPaginator<>(Collections.emptyList(), 3);
+    assertEquals(0, paginator.pages().count());
+    paginator.forEachPageParallel(page -> fail("No page expected"), 2);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PageSpliterator<>(items, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ListPaginator<>(items, 3).forEachPageParallel(page -> {}, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ListPaginator<>(items, 3).forEachPageParallel(page -> {}, (ForkJoinPool) null));
+  }
+
+  @Test
+  void testLastPartialPage() {
+    List<Integer> last = new ListPaginator<>(items, 11).pages().skip(9).findFirst().get();
+    assertEquals(Arrays.asList(99), last);
+  }
+}
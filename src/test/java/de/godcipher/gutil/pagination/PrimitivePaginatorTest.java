@@ -0,0 +1,73 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.junit.jupiter.api.Test;
+
+class PrimitivePaginatorTest {
+
+  @Test
+  void testIntPagesAreSlicesOfArray() {
+    int[] values = {1, 2, 3, 4, 5, 6, 7};
+    IntPaginator paginator = new IntPaginator(values, 3);
+
+    IntBuffer page = paginator.getPage(1);
+    assertEquals(3, page.remaining());
+    assertEquals(4, page.get(0));
+    assertEquals(6, page.get(2));
+
+    values[3] = 40;
+    assertEquals(40, page.get(0), "Pages should share the storage of the array");
+
+    assertEquals(1, paginator.getPage(2).remaining());
+    assertEquals(0, paginator.getPage(3).remaining());
+    assertEquals(0, paginator.getPage(Integer.MAX_VALUE).remaining());
+    assertEquals(3, paginator.getTotalPages());
+  }
+
+  @Test
+  void testPagesAreReadOnly() {
+    IntBuffer page = new IntPaginator(new int[] {1, 2}, 2).getPage(0);
+    assertTrue(page.isReadOnly());
+    assertThrows(ReadOnlyBufferException.class, () -> page.put(0, 9));
+  }
+
+  @Test
+  void testLongPagesFromDirectBuffer() {
+    ByteBuffer buffer =
+        ByteBuffer.allocateDirect(5 * Long.BYTES + 3).order(ByteOrder.LITTLE_ENDIAN);
+    for (long i = 0; i < 5; i++) {
+      buffer.putLong(i * 100);
+    }
+    buffer.flip();
+    buffer.limit(buffer.capacity());
+
+    LongPaginator paginator = new LongPaginator(buffer, 2);
+    assertEquals(5, paginator.size(), "Trailing bytes should be ignored");
+    LongBuffer page = paginator.getPage(2);
+    assertEquals(1, page.remaining());
+    assertEquals(400L, page.get(0));
+  }
+
+  @Test
+  void testDoublePages() {
+    DoublePaginator paginator = new DoublePaginator(new double[] {0.5, 1.5, 2.5}, 2);
+    DoubleBuffer page = paginator.getPage(0);
+    assertEquals(2, page.remaining());
+    assertEquals(1.5, page.get(1));
+    assertEquals(2, paginator.getTotalPages());
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new IntPaginator(new int[0], 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new LongPaginator(new long[0], 1).getPage(-1));
+  }
+}
@@ -0,0 +1,127 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SnapshotPaginatorTest {
+
+  @Test
+  void testSnapshotIsStableUnderWrites() {
+    SnapshotPaginator<String> paginator =
+        new SnapshotPaginator<>(Arrays.asList("A", "B", "C", "D", "E"), 2);
+    SnapshotPaginator.Snapshot<String> snapshot = paginator.snapshot();
+
+    paginator.remove(0);
+    paginator.add("F");
+    paginator.set(0, "Z");
+
+    assertEquals(Arrays.asList("A", "B"), snapshot.getPage(0));
+    assertEquals(Arrays.asList("E"), snapshot.getPage(2));
+    assertEquals(3, snapshot.getTotalPages());
+    assertEquals(Arrays.asList("Z", "C"), paginator.getPage(0));
+    assertEquals(Arrays.asList("F"), paginator.getPage(2));
+    assertEquals(snapshot.getVersion() + 3, paginator.snapshot().getVersion());
+  }
+
+  @Test
+  void testLargeVectorAppendAndSet() {
+    int size = 40_000;
+    SnapshotPaginator<Integer> paginator = new SnapshotPaginator<>(100);
+    List<SnapshotPaginator.Snapshot<Integer>> versions = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      paginator.add(i);
+      if (i % 1000 == 0) {
+        versions.add(paginator.snapshot());
+      }
+    }
+    paginator.set(33_333, -1);
+
+    SnapshotPaginator.Snapshot<Integer> snapshot = paginator.snapshot();
+    assertEquals(size, snapshot.size());
+    assertEquals(400, snapshot.getTotalPages());
+    for (int page = 0; page < snapshot.getTotalPages(); page++) {
+      List<Integer> items = snapshot.getPage(page);
+      for (int i = 0; i < items.size(); i++) {
+        int index = page * 100 + i;
+        assertEquals(index == 33_333 ? -1 : index, (int) items.get(i));
+      }
+    }
+    for (int v = 0; v < versions.size(); v++) {
+      assertEquals(v * 1000 + 1, versions.get(v).size());
+      assertEquals(v * 1000, (int) versions.get(v).getPage(v * 10).get(0));
+    }
+  }
+
+  @Test
+  void testConcurrentWritersDoNotLoseUpdates() throws Exception {
+    SnapshotPaginator<Integer> paginator = new SnapshotPaginator<>(10);
+    int writers = 4;
+    int perWriter = 2_000;
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int w = 0; w < writers; w++) {
+      int offset = w * perWriter;
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perWriter; i++) {
+                  paginator.add(offset + i);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    SnapshotPaginator.Snapshot<Integer> snapshot = paginator.snapshot();
+    List<Integer> all =
+        IntStream.range(0, snapshot.getTotalPages())
+            .boxed()
+            .flatMap(page -> snapshot.getPage(page).stream())
+            .sorted()
+            .collect(Collectors.toList());
+    assertEquals(IntStream.range(0, writers * perWriter).boxed().collect(Collectors.toList()), all);
+  }
+
+  @Test
+  void testRemoveByValueAndClear() {
+    SnapshotPaginator<String> paginator = new SnapshotPaginator<>(Arrays.asList("A", "B"), 2);
+    assertTrue(paginator.remove("A"));
+    assertFalse(paginator.remove("X"));
+    assertEquals(Arrays.asList("B"), paginator.getPage(0));
+
+    paginator.clear();
+    assertTrue(paginator.getPage(0).isEmpty());
+  }
+
+  @Test
+  void testPagesAreUnmodifiable() {
+    SnapshotPaginator<String> paginator = new SnapshotPaginator<>(Arrays.asList("A", "B"), 2);
+    List<String> page = paginator.getPage(0);
+    assertThrows(UnsupportedOperationException.class, () -> page.add("C"));
+    assertThrows(UnsupportedOperationException.class, () -> page.set(0, "C"));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new SnapshotPaginator<>(0));
+    SnapshotPaginator<String> paginator = new SnapshotPaginator<>(2);
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> paginator.set(0, "A"));
+  }
+}
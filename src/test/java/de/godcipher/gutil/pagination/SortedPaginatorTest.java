@@ -0,0 +1,150 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SortedPaginatorTest {
+
+  @Test
+  void testPagesAreSortedAndFiltered() {
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.reverseOrder())
+            .filter(i -> i % 2 == 0)
+            .filter(i -> i > 0)
+            .pageSize(3)
+            .build(Arrays.asList(5, 8, -2, 4, 10, 1, 6, 2, 7));
+
+    assertEquals(Arrays.asList(10, 8, 6), paginator.getPage(0));
+    assertEquals(Arrays.asList(4, 2), paginator.getPage(1));
+    assertTrue(paginator.getPage(2).isEmpty());
+    assertEquals(2, paginator.getTotalPages());
+    assertEquals(5, paginator.size());
+  }
+
+  @Test
+  void testIncrementalUpdates() {
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.naturalOrder())
+            .pageSize(2)
+            .build(Arrays.asList(5, 3, 9, 1));
+
+    assertEquals(Arrays.asList(1, 3), paginator.getPage(0));
+    assertTrue(paginator.add(2));
+    assertTrue(paginator.add(10));
+    assertEquals(Arrays.asList(1, 2), paginator.getPage(0));
+    assertTrue(paginator.remove(1));
+    assertFalse(paginator.remove(42));
+    assertEquals(Arrays.asList(2, 3), paginator.getPage(0));
+    assertEquals(Arrays.asList(5, 9), paginator.getPage(1));
+    assertEquals(Arrays.asList(10), paginator.getPage(2));
+  }
+
+  @Test
+  void testUpdateRescoresItem() {
+    Player alice = new Player("alice", 10);
+    Player bob = new Player("bob", 20);
+    Player carol = new Player("carol", 30);
+    SortedPaginator<Player> paginator =
+        SortedPaginator.<Player>builder(Comparator.comparingInt((Player p) -> p.score).reversed())
+            .pageSize(1)
+            .build(Arrays.asList(alice, bob, carol));
+
+    assertEquals(Arrays.asList(carol), paginator.getPage(0));
+    assertTrue(paginator.update(alice, p -> p.score = 50));
+    assertEquals(Arrays.asList(alice), paginator.getPage(0));
+    assertEquals(Arrays.asList(carol), paginator.getPage(1));
+    assertEquals(Arrays.asList(bob), paginator.getPage(2));
+  }
+
+  @Test
+  void testMatchesFullSortUnderRandomOperations() {
+    Random random = new Random(42);
+    List<Integer> reference = new ArrayList<>();
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.naturalOrder()).pageSize(7).build();
+
+    for (int step = 0; step < 2_000; step++) {
+      int action = random.nextInt(10);
+      if (action < 6 || reference.isEmpty()) {
+        int value = random.nextInt(100);
+        paginator.add(value);
+        reference.add(value);
+      } else if (action < 8) {
+        Integer value = reference.remove(random.nextInt(reference.size()));
+        assertTrue(paginator.remove(value));
+      } else {
+        List<Integer> expected = reference.stream().sorted().collect(Collectors.toList());
+        int page = random.nextInt(paginator.getTotalPages() + 1);
+        int from = Math.min(page * 7, expected.size());
+        int to = Math.min(from + 7, expected.size());
+        assertEquals(expected.subList(from, to), paginator.getPage(page));
+      }
+    }
+  }
+
+  @Test
+  void testPageOutlivesLaterRequests() {
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.naturalOrder())
+            .pageSize(2)
+            .build(Arrays.asList(4, 2, 3, 1, 6, 5));
+
+    List<Integer> first = paginator.getPage(0);
+    assertEquals(Arrays.asList(5, 6), paginator.getPage(2));
+    paginator.add(0);
+    assertEquals(Arrays.asList(1, 2), first);
+  }
+
+  @Test
+  void testPositionAndPageOf() {
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.naturalOrder())
+            .pageSize(2)
+            .build(Arrays.asList(50, 10, 40, 20, 30, 40));
+
+    assertEquals(Arrays.asList(10, 20), paginator.getPage(0));
+    assertEquals(1, paginator.positionOf(20));
+    assertEquals(3, paginator.positionOf(40));
+    assertEquals(5, paginator.positionOf(50));
+    assertEquals(2, paginator.pageOf(50));
+    assertEquals(-1, paginator.positionOf(25));
+    assertEquals(-1, paginator.pageOf(60));
+
+    paginator.add(5);
+    assertEquals(0, paginator.positionOf(5));
+    assertEquals(2, paginator.positionOf(20));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> SortedPaginator.builder(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SortedPaginator.<Integer>builder(Comparator.naturalOrder()).pageSize(0));
+    SortedPaginator<Integer> paginator =
+        SortedPaginator.<Integer>builder(Comparator.naturalOrder()).build();
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+  }
+
+  private static final class Player {
+    private final String name;
+    private int score;
+
+    private Player(String name, int score) {
+      this.name = name;
+      this.score = score;
+    }
+
+    @Override
+    public String toString() {
+      return name + "=" + score;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package de.godcipher.gutil.pagination;
+
+import static java.lang.Thread.currentThread;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamPaginatorTest {
+
+  @Test
+  void testPagesAreReadOnDemand() {
+    AtomicInteger consumed = new AtomicInteger();
+    Iterator<Integer> source = counting(IntStream.range(0, 10).boxed().iterator(), consumed);
+    StreamPaginator<Integer> paginator = new StreamPaginator<>(source, 3, 2, null);
+
+    assertEquals(Arrays.asList(0, 1, 2), paginator.getPage(0));
+    assertEquals(3, consumed.get(), "Only the first page should be read");
+    assertEquals(Arrays.asList(3, 4, 5), paginator.getPage(1));
+    assertEquals(Arrays.asList(0, 1, 2), paginator.getPage(0), "Page 0 should still be buffered");
+  }
+
+  @Test
+  void testEvictedPageThrows() {
+    StreamPaginator<Integer> paginator =
+        new StreamPaginator<>(IntStream.range(0, 10).boxed().iterator(), 3);
+
+    assertEquals(Arrays.asList(6, 7, 8), paginator.getPage(2));
+    assertEquals(1, paginator.getBufferedPages());
+    assertThrows(IllegalStateException.class, () -> paginator.getPage(0));
+  }
+
+  @Test
+  void testTotalPagesKnownOnceExhausted() {
+    StreamPaginator<Integer> paginator =
+        new StreamPaginator<>(IntStream.range(0, 9).boxed().iterator(), 3);
+
+    assertEquals(OptionalLong.empty(), paginator.getTotalPages());
+    assertEquals(Arrays.asList(6, 7, 8), paginator.getPage(2));
+    assertTrue(paginator.isExhausted());
+    assertEquals(OptionalLong.of(3), paginator.getTotalPages());
+    assertTrue(paginator.getPage(5).isEmpty(), "Out of range pages should return an empty list");
+  }
+
+  @Test
+  void testPrefetchReadsNextPage() {
+    AtomicInteger consumed = new AtomicInteger();
+    Iterator<Integer> source = counting(IntStream.range(0, 10).boxed().iterator(), consumed);
+    StreamPaginator<Integer> paginator = new StreamPaginator<>(source, 3, 2, Runnable::run);
+
+    assertEquals(Arrays.asList(0, 1, 2), paginator.getPage(0));
+    assertEquals(6, consumed.get(), "The next page should be prefetched");
+    assertEquals(2, paginator.getBufferedPages());
+    assertEquals(Arrays.asList(3, 4, 5), paginator.getPage(1));
+  }
+
+  @Test
+  void testPrefetchingUsesSharedExecutor() throws InterruptedException {
+    Set<Thread> readers = ConcurrentHashMap.newKeySet();
+    Stream<Integer> stream = IntStream.range(0, 10).boxed().peek(i -> readers.add(currentThread()));
+    try (StreamPaginator<Integer> paginator = StreamPaginator.prefetching(stream, 3, 2)) {
+      assertEquals(Arrays.asList(0, 1, 2), paginator.getPage(0));
+      for (int i = 0; i < 500 && paginator.getBufferedPages() < 2; i++) {
+        Thread.sleep(10);
+      }
+      assertEquals(2, paginator.getBufferedPages(), "The next page should be prefetched");
+      assertTrue(readers.stream().anyMatch(thread -> thread != currentThread()));
+    }
+    assertThrows(
+        IllegalArgumentException.class, () -> StreamPaginator.prefetching(Stream.of(1), 1, 1));
+  }
+
+  @Test
+  void testCloseClosesStream() {
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<String> stream = Stream.of("A", "B").onClose(() -> closed.set(true));
+    StreamPaginator<String> paginator = StreamPaginator.of(stream, 1, 1, null);
+
+    paginator.close();
+    assertTrue(closed.get());
+    assertThrows(IllegalStateException.class, () -> paginator.getPage(0));
+  }
+
+  @Test
+  void testSpliteratorSource() {
+    StreamPaginator<String> paginator =
+        StreamPaginator.of(Arrays.asList("A", "B", "C").spliterator(), 2, 1, null);
+    assertEquals(Arrays.asList("C"), paginator.getPage(1));
+  }
+
+  @Test
+  void testSourceFailureIsRethrown() {
+    Iterator<Integer> failing =
+        new Iterator<Integer>() {
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public Integer next() {
+            throw new IllegalArgumentException("broken");
+          }
+        };
+    StreamPaginator<Integer> paginator = new StreamPaginator<>(failing, 2);
+    assertThrows(IllegalStateException.class, () -> paginator.getPage(0));
+    assertThrows(IllegalStateException.class, () -> paginator.getPage(0));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    Iterator<Integer> source = IntStream.range(0, 1).boxed().iterator();
+    assertThrows(IllegalArgumentException.class, () -> new StreamPaginator<>(source, 0));
+    assertThrows(IllegalArgumentException.class, () -> new StreamPaginator<>(source, 1, 0, null));
+    assertThrows(
+        IllegalArgumentException.class, () -> new StreamPaginator<>(source, 1, 1, Runnable::run));
+    assertThrows(
+        IllegalArgumentException.class, () -> new StreamPaginator<>(source, 1).getPage(-1));
+  }
+
+  private static <T> Iterator<T> counting(Iterator<T> iterator, AtomicInteger counter) {
+    return new Iterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() {
+        counter.incrementAndGet();
+        return iterator.next();
+      }
+    };
+  }
+}
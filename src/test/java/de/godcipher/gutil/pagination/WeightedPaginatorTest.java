@@ -0,0 +1,162 @@
+package de.godcipher.gutil.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WeightedPaginatorTest {
+
+  @Test
+  void testPagesArePackedByWeight() {
+    List<String> items = Arrays.asList("aa", "bbb", "c", "dddd", "ee", "f");
+    WeightedPaginator<String> paginator = new WeightedPaginator<>(items, String::length, 5);
+
+    assertEquals(Arrays.asList("aa", "bbb"), paginator.getPage(0));
+    assertEquals(Arrays.asList("c", "dddd"), paginator.getPage(1));
+    assertEquals(Arrays.asList("ee", "f"), paginator.getPage(2));
+    assertTrue(paginator.getPage(3).isEmpty());
+    assertEquals(3, paginator.getTotalPages());
+    assertEquals(13, paginator.getTotalWeight());
+  }
+
+  @Test
+  void testOversizedItemGetsOwnPage() {
+    WeightedPaginator<String> paginator =
+        new WeightedPaginator<>(Arrays.asList("a", "bbbbbbbb", "c"), String::length, 3);
+
+    assertEquals(Arrays.asList("a"), paginator.getPage(0));
+    assertEquals(Arrays.asList("bbbbbbbb"), paginator.getPage(1));
+    assertEquals(Arrays.asList("c"), paginator.getPage(2));
+    assertEquals(1, paginator.pageOf(1));
+  }
+
+  @Test
+  void testHugeMaxWeightDoesNotOverflow() {
+    WeightedPaginator<String> paginator =
+        new WeightedPaginator<>(Arrays.asList("aa", "bbb", "c"), String::length, Long.MAX_VALUE);
+
+    assertEquals(Arrays.asList("aa", "bbb", "c"), paginator.getPage(0));
+    assertEquals(1, paginator.getTotalPages());
+    assertEquals(0, paginator.pageOf(2));
+
+    // The second page starts at a prefix weight that overflows when the max weight is added
+    long maxWeight = Long.MAX_VALUE / 4 * 3;
+    WeightedPaginator<String> heavy =
+        new WeightedPaginator<>(
+            Arrays.asList("heavy", "b", "c"),
+            item -> item.equals("heavy") ? maxWeight : 1,
+            maxWeight);
+
+    assertEquals(Arrays.asList("heavy"), heavy.getPage(0));
+    assertEquals(Arrays.asList("b", "c"), heavy.getPage(1));
+    assertEquals(2, heavy.getTotalPages());
+  }
+
+  @Test
+  void testIncrementalUpdates() {
+    WeightedPaginator<String> paginator = new WeightedPaginator<>(String::length, 4);
+    assertEquals(0, paginator.getTotalPages());
+    assertTrue(paginator.getPage(0).isEmpty());
+
+    paginator.addAll(Arrays.asList("aa", "bb", "cc"));
+    assertEquals(Arrays.asList("aa", "bb"), paginator.getPage(0));
+    assertEquals(2, paginator.getTotalPages());
+
+    paginator.set(0, "aaaa");
+    assertEquals(Arrays.asList("aaaa"), paginator.getPage(0));
+    assertEquals(Arrays.asList("bb", "cc"), paginator.getPage(1));
+
+    assertEquals("aaaa", paginator.remove(0));
+    paginator.add(0, "x");
+    assertEquals(Arrays.asList("x", "bb"), paginator.getPage(0));
+    assertEquals(Arrays.asList("cc"), paginator.getPage(1));
+  }
+
+  @Test
+  void testReweighAfterInPlaceChange() {
+    StringBuilder item = new StringBuilder("a");
+    WeightedPaginator<CharSequence> paginator =
+        new WeightedPaginator<>(Arrays.asList(item, "b", "c"), CharSequence::length, 3);
+    assertEquals(1, paginator.getTotalPages());
+
+    item.append("aa");
+    paginator.reweigh(0);
+    assertEquals(2, paginator.getTotalPages());
+    assertEquals(Collections.singletonList(item), paginator.getPage(0));
+  }
+
+  @Test
+  void testMatchesGreedyPackingUnderRandomOperations() {
+    Random random = new Random(42);
+    List<Integer> reference = new ArrayList<>();
+    WeightedPaginator<Integer> paginator = new WeightedPaginator<>(Integer::longValue, 20);
+
+    for (int step = 0; step < 2_000; step++) {
+      int action = random.nextInt(10);
+      if (action < 4 || reference.isEmpty()) {
+        int value = random.nextInt(25);
+        paginator.add(value);
+        reference.add(value);
+      } else if (action < 5) {
+        int index = random.nextInt(reference.size() + 1);
+        int value = random.nextInt(25);
+        paginator.add(index, value);
+        reference.add(index, value);
+      } else if (action < 6) {
+        int index = random.nextInt(reference.size());
+        assertEquals(reference.remove(index), paginator.remove(index));
+      } else if (action < 7) {
+        int index = random.nextInt(reference.size());
+        int value = random.nextInt(25);
+        paginator.set(index, value);
+        reference.set(index, value);
+      } else {
+        List<List<Integer>> expected = pack(reference, 20);
+        int page = random.nextInt(expected.size() + 1);
+        List<Integer> expectedPage =
+            page < expected.size() ? expected.get(page) : Collections.emptyList();
+        assertEquals(expectedPage, paginator.getPage(page));
+        if (action == 9) {
+          assertEquals(expected.size(), paginator.getTotalPages());
+          int index = random.nextInt(reference.size());
+          assertTrue(expected.get(paginator.pageOf(index)).contains(reference.get(index)));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new WeightedPaginator<String>(null, 5));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WeightedPaginator<String>(String::length, 0));
+    WeightedPaginator<Integer> paginator = new WeightedPaginator<>(Integer::longValue, 5);
+    assertThrows(IllegalArgumentException.class, () -> paginator.add(-1));
+    assertThrows(IllegalArgumentException.class, () -> paginator.getPage(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> paginator.pageOf(0));
+  }
+
+  private static List<List<Integer>> pack(List<Integer> items, long maxWeight) {
+    List<List<Integer>> pages = new ArrayList<>();
+    List<Integer> page = new ArrayList<>();
+    long weight = 0;
+    for (Integer item : items) {
+      if (!page.isEmpty() && weight + item > maxWeight) {
+        pages.add(page);
+        page = new ArrayList<>();
+        weight = 0;
+      }
+      page.add(item);
+      weight += item;
+    }
+    if (!page.isEmpty()) {
+      pages.add(page);
+    }
+    return pages;
+  }
+}